@@ -0,0 +1,59 @@
+package com.hollingsworth.arsnouveau.benchmark;
+
+import com.electronwill.nightconfig.core.CommentedConfig;
+import com.hollingsworth.arsnouveau.api.ArsNouveauAPI;
+import com.hollingsworth.arsnouveau.api.spell.AbstractSpellPart;
+import com.hollingsworth.arsnouveau.common.spell.augment.*;
+import com.hollingsworth.arsnouveau.common.spell.effect.*;
+import com.hollingsworth.arsnouveau.common.spell.method.MethodProjectile;
+import com.hollingsworth.arsnouveau.common.spell.method.MethodSelf;
+import com.hollingsworth.arsnouveau.common.spell.method.MethodTouch;
+import com.hollingsworth.arsnouveau.setup.Config;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import net.minecraftforge.common.ForgeConfigSpec;
+import net.minecraftforge.fml.loading.FMLPaths;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * Brings up just enough of the game to run benchmarks without a client or server: vanilla registries, in memory
+ * configs and the glyphs the benchmarks use. Glyph configs are built like ArsNouveauAPI#registerSpell builds them,
+ * but are never handed to the mod loader.
+ */
+public class BenchmarkBootstrap {
+    public static final List<AbstractSpellPart> GLYPHS = List.of(
+            MethodProjectile.INSTANCE, MethodTouch.INSTANCE, MethodSelf.INSTANCE,
+            EffectBreak.INSTANCE, EffectHarm.INSTANCE, EffectIgnite.INSTANCE, EffectHeal.INSTANCE, EffectGrow.INSTANCE,
+            EffectKnockback.INSTANCE, EffectLight.INSTANCE, EffectLaunch.INSTANCE, EffectPull.INSTANCE, EffectExplosion.INSTANCE,
+            EffectFreeze.INSTANCE, EffectCut.INSTANCE, EffectHarvest.INSTANCE, EffectPlaceBlock.INSTANCE, EffectDelay.INSTANCE,
+            AugmentAmplify.INSTANCE, AugmentDampen.INSTANCE, AugmentAOE.INSTANCE, AugmentPierce.INSTANCE, AugmentExtendTime.INSTANCE,
+            AugmentDurationDown.INSTANCE, AugmentAccelerate.INSTANCE, AugmentSplit.INSTANCE, AugmentSensitive.INSTANCE);
+
+    private static boolean initialized;
+
+    public static synchronized void init(){
+        if(initialized)
+            return;
+        try {
+            FMLPaths.loadAbsolutePaths(Files.createTempDirectory("ars_nouveau_jmh"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        Config.SERVER_CONFIG.setConfig(CommentedConfig.inMemory());
+
+        for(AbstractSpellPart part : GLYPHS){
+            ForgeConfigSpec.Builder builder = new ForgeConfigSpec.Builder();
+            part.buildConfig(builder);
+            part.CONFIG = builder.build();
+            part.CONFIG.setConfig(CommentedConfig.inMemory());
+            ArsNouveauAPI.getInstance().getSpellpartMap().put(part.getId(), part);
+        }
+        initialized = true;
+    }
+}
@@ -0,0 +1,38 @@
+package com.hollingsworth.arsnouveau.benchmark;
+
+import com.hollingsworth.arsnouveau.api.util.SpellUtil;
+import net.minecraft.core.BlockPos;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connected block search as used by Fell and the Awakening ritual, run through a grove of touching trees.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockSearchBenchmark {
+    // 350 is the Awakening ritual cap, the larger value approximates an amplified Fell
+    @Param({"350", "2048"})
+    public int maxBlocks;
+
+    private SyntheticTerrain terrain;
+    private BlockPos start;
+
+    @Setup
+    public void setup(){
+        BenchmarkBootstrap.init();
+        terrain = new SyntheticTerrain();
+        start = new BlockPos(2, SyntheticTerrain.GROUND + 1, SyntheticTerrain.SIZE - SyntheticTerrain.GROVE_SIZE);
+    }
+
+    @Benchmark
+    public Set<BlockPos> dfsBlockstates(){
+        return SpellUtil.DFSBlockstates(terrain, start, maxBlocks, SyntheticTerrain::isTree);
+    }
+}
@@ -0,0 +1,41 @@
+package com.hollingsworth.arsnouveau.benchmark;
+
+import com.hollingsworth.arsnouveau.common.entity.pathfinding.pathjobs.PathJobMoveToLocation;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.pathfinder.Path;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A* search of the familiar and golem path jobs over synthetic terrain, without entities or a level.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathfindingBenchmark {
+    // open: straight run across a field, detour: blocked by walls and routed through their only gap
+    @Param({"open", "detour"})
+    public String route;
+
+    private SyntheticTerrain terrain;
+    private BlockPos start;
+    private BlockPos end;
+
+    @Setup
+    public void setup(){
+        BenchmarkBootstrap.init();
+        terrain = new SyntheticTerrain();
+        int y = SyntheticTerrain.GROUND + 1;
+        start = new BlockPos(50, y, 4);
+        end = route.equals("open") ? new BlockPos(70, y, 40) : new BlockPos(100, y, 4);
+    }
+
+    @Benchmark
+    public Path moveToLocation(){
+        return new PathJobMoveToLocation(terrain, start, end, 200, null).call();
+    }
+}
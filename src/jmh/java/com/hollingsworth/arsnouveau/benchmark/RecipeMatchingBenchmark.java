@@ -0,0 +1,95 @@
+package com.hollingsworth.arsnouveau.benchmark;
+
+import com.hollingsworth.arsnouveau.api.enchanting_apparatus.EnchantingApparatusRecipe;
+import com.hollingsworth.arsnouveau.common.crafting.recipes.ImbuementRecipe;
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Ingredient;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Linear recipe lookups as done by the Enchanting Apparatus and Imbuement Chamber, against large modpack sized recipe
+ * lists. The matching recipe is always last, and the miss case scans everything.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecipeMatchingBenchmark {
+    @Param({"100", "1000"})
+    public int recipeCount;
+
+    private final List<EnchantingApparatusRecipe> apparatusRecipes = new ArrayList<>();
+    private final List<ImbuementRecipe> imbuementRecipes = new ArrayList<>();
+    private List<ItemStack> pedestalItems;
+    private ItemStack reagent;
+    private ItemStack missReagent;
+
+    @Setup
+    public void setup(){
+        BenchmarkBootstrap.init();
+        List<Item> items = new ArrayList<>();
+        Registry.ITEM.forEach(item -> {
+            if(item != Items.AIR)
+                items.add(item);
+        });
+        for(int i = 0; i < recipeCount; i++){
+            List<Ingredient> pedestals = new ArrayList<>();
+            for(int j = 0; j < 4; j++){
+                pedestals.add(Ingredient.of(items.get((i * 7 + j * 13) % items.size())));
+            }
+            Ingredient recipeReagent = Ingredient.of(items.get(i % items.size()));
+            ItemStack result = new ItemStack(items.get((i * 31) % items.size()));
+            apparatusRecipes.add(new EnchantingApparatusRecipe(new ResourceLocation("ars_nouveau", "bench_apparatus_" + i), pedestals, recipeReagent, result));
+            imbuementRecipes.add(new ImbuementRecipe("bench_imbuement_" + i, recipeReagent, result, 100, pedestals));
+        }
+        int last = recipeCount - 1;
+        pedestalItems = new ArrayList<>();
+        for(int j = 3; j >= 0; j--){
+            pedestalItems.add(new ItemStack(items.get((last * 7 + j * 13) % items.size())));
+        }
+        reagent = new ItemStack(items.get(last % items.size()));
+        missReagent = new ItemStack(Items.BARRIER);
+    }
+
+    @Benchmark
+    public EnchantingApparatusRecipe apparatusHit(){
+        return findApparatus(reagent);
+    }
+
+    @Benchmark
+    public EnchantingApparatusRecipe apparatusMiss(){
+        return findApparatus(missReagent);
+    }
+
+    @Benchmark
+    public ImbuementRecipe imbuementHit(){
+        return findImbuement(reagent);
+    }
+
+    @Benchmark
+    public ImbuementRecipe imbuementMiss(){
+        return findImbuement(missReagent);
+    }
+
+    // Same shape as EnchantingApparatusTile#getRecipe
+    private EnchantingApparatusRecipe findApparatus(ItemStack catalyst){
+        return apparatusRecipes.stream().filter(r -> r.isMatch(pedestalItems, catalyst, null, null)).findFirst().orElse(null);
+    }
+
+    // ImbuementTile matches through ImbuementRecipe#matches, which needs a live tile. These are the same checks in the
+    // same order, with the pedestal items gathered once instead of per recipe.
+    private ImbuementRecipe findImbuement(ItemStack input){
+        return imbuementRecipes.stream().filter(r -> EnchantingApparatusRecipe.doItemsMatch(pedestalItems, r.pedestalItems) && r.input.test(input))
+                .findFirst().orElse(null);
+    }
+}
@@ -0,0 +1,82 @@
+package com.hollingsworth.arsnouveau.benchmark;
+
+import com.hollingsworth.arsnouveau.api.ArsNouveauAPI;
+import com.hollingsworth.arsnouveau.api.spell.*;
+import com.hollingsworth.arsnouveau.common.spell.augment.AugmentAOE;
+import com.hollingsworth.arsnouveau.common.spell.augment.AugmentAmplify;
+import com.hollingsworth.arsnouveau.common.spell.augment.AugmentPierce;
+import com.hollingsworth.arsnouveau.common.spell.effect.EffectBreak;
+import com.hollingsworth.arsnouveau.common.spell.effect.EffectDelay;
+import com.hollingsworth.arsnouveau.common.spell.effect.EffectHarm;
+import com.hollingsworth.arsnouveau.common.spell.method.MethodProjectile;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spell construction, validation and serialization, the work done on every cast and every spell book edit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpellBenchmark {
+    // Glyph count, 10 is a full spell book slot and 30 stands in for addon raised limits
+    @Param({"3", "10", "30"})
+    public int length;
+
+    private Spell spell;
+    private String serialized;
+    private ISpellValidator craftingValidator;
+    private ISpellValidator castingValidator;
+
+    @Setup
+    public void setup(){
+        BenchmarkBootstrap.init();
+        List<AbstractSpellPart> recipe = new ArrayList<>();
+        recipe.add(MethodProjectile.INSTANCE);
+        AbstractSpellPart[] body = {EffectBreak.INSTANCE, AugmentAmplify.INSTANCE, AugmentAOE.INSTANCE, EffectDelay.INSTANCE, EffectHarm.INSTANCE, AugmentPierce.INSTANCE};
+        for(int i = 1; i < length; i++){
+            recipe.add(body[(i - 1) % body.length]);
+        }
+        spell = new Spell(recipe);
+        serialized = spell.serialize();
+        craftingValidator = ArsNouveauAPI.getInstance().getSpellCraftingSpellValidator();
+        castingValidator = ArsNouveauAPI.getInstance().getSpellCastingSpellValidator();
+    }
+
+    @Benchmark
+    public List<SpellValidationError> validateCrafting(){
+        return craftingValidator.validate(spell.recipe);
+    }
+
+    @Benchmark
+    public List<SpellValidationError> validateCasting(){
+        return castingValidator.validate(spell.recipe);
+    }
+
+    @Benchmark
+    public int resolverCost(){
+        SpellResolver resolver = new SpellResolver(new SpellContext(new Spell(new ArrayList<>(spell.recipe)), null));
+        return resolver.spell.getCastingCost();
+    }
+
+    @Benchmark
+    public String serialize(){
+        return spell.serialize();
+    }
+
+    @Benchmark
+    public Spell deserialize(){
+        return Spell.deserialize(serialized);
+    }
+
+    @Benchmark
+    public Spell roundTrip(){
+        return Spell.deserialize(spell.serialize());
+    }
+}
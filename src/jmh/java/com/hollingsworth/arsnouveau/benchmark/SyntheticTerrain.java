@@ -0,0 +1,186 @@
+package com.hollingsworth.arsnouveau.benchmark;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.Holder;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.LevelReader;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.biome.BiomeManager;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.border.WorldBorder;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.dimension.DimensionType;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.level.lighting.LevelLightEngine;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.shapes.VoxelShape;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Fixed block data standing in for loaded chunks. A flat grass field at GROUND, crossed by walls with a single gap so
+ * paths have to detour, and a grove of touching oak trees in one corner for connected block searches.
+ * Everything outside the box is air.
+ */
+public class SyntheticTerrain implements LevelReader {
+    public static final int SIZE = 128;
+    public static final int HEIGHT = 48;
+    public static final int GROUND = 16;
+    public static final int GROVE_SIZE = 40;
+
+    private static final BlockState AIR = Blocks.AIR.defaultBlockState();
+
+    private final BlockState[] states = new BlockState[SIZE * SIZE * HEIGHT];
+
+    public SyntheticTerrain(){
+        BlockState stone = Blocks.STONE.defaultBlockState();
+        BlockState grass = Blocks.GRASS_BLOCK.defaultBlockState();
+        BlockState log = Blocks.OAK_LOG.defaultBlockState();
+        BlockState leaves = Blocks.OAK_LEAVES.defaultBlockState();
+        for(int x = 0; x < SIZE; x++){
+            for(int z = 0; z < SIZE; z++){
+                for(int y = 0; y < HEIGHT; y++){
+                    set(x, y, z, y < GROUND ? stone : y == GROUND ? grass : AIR);
+                }
+                // Walls along x every 24 blocks, open only near one edge
+                if(x > 0 && x % 24 == 0 && z < SIZE - 6){
+                    for(int y = GROUND + 1; y <= GROUND + 3; y++){
+                        set(x, y, z, stone);
+                    }
+                }
+            }
+        }
+        // Trees every 3 blocks so canopies overlap into one connected grove
+        for(int x = 2; x < GROVE_SIZE; x += 3){
+            for(int z = SIZE - GROVE_SIZE; z < SIZE - 2; z += 3){
+                for(int dx = -2; dx <= 2; dx++){
+                    for(int dz = -2; dz <= 2; dz++){
+                        for(int y = GROUND + 4; y <= GROUND + 7; y++){
+                            if(get(x + dx, y, z + dz).isAir())
+                                set(x + dx, y, z + dz, leaves);
+                        }
+                    }
+                }
+                for(int y = GROUND + 1; y <= GROUND + 6; y++){
+                    set(x, y, z, log);
+                }
+            }
+        }
+    }
+
+    public static boolean isTree(BlockState state){
+        return state.is(Blocks.OAK_LOG) || state.is(Blocks.OAK_LEAVES);
+    }
+
+    private static boolean inBounds(int x, int y, int z){
+        return x >= 0 && x < SIZE && y >= 0 && y < HEIGHT && z >= 0 && z < SIZE;
+    }
+
+    private void set(int x, int y, int z, BlockState state){
+        if(inBounds(x, y, z))
+            states[x + z * SIZE + y * SIZE * SIZE] = state;
+    }
+
+    private BlockState get(int x, int y, int z){
+        return inBounds(x, y, z) ? states[x + z * SIZE + y * SIZE * SIZE] : AIR;
+    }
+
+    @Override
+    public BlockState getBlockState(BlockPos pos){
+        return get(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    @Override
+    public FluidState getFluidState(BlockPos pos){
+        return getBlockState(pos).getFluidState();
+    }
+
+    @Nullable
+    @Override
+    public BlockEntity getBlockEntity(BlockPos pos){
+        return null;
+    }
+
+    @Override
+    public int getMinBuildHeight(){
+        return 0;
+    }
+
+    @Override
+    public int getHeight(){
+        return HEIGHT;
+    }
+
+    @Nullable
+    @Override
+    public ChunkAccess getChunk(int x, int z, ChunkStatus requiredStatus, boolean nonnull){
+        return null;
+    }
+
+    @Override
+    public boolean hasChunk(int chunkX, int chunkZ){
+        return false;
+    }
+
+    @Override
+    public int getHeight(Heightmap.Types heightmapType, int x, int z){
+        return GROUND + 1;
+    }
+
+    @Override
+    public int getSkyDarken(){
+        return 0;
+    }
+
+    @Override
+    public BiomeManager getBiomeManager(){
+        return null;
+    }
+
+    @Override
+    public Holder<Biome> getUncachedNoiseBiome(int x, int y, int z){
+        return null;
+    }
+
+    @Override
+    public boolean isClientSide(){
+        return false;
+    }
+
+    @Override
+    public int getSeaLevel(){
+        return 0;
+    }
+
+    @Override
+    public DimensionType dimensionType(){
+        return null;
+    }
+
+    @Override
+    public float getShade(Direction direction, boolean shade){
+        return 0;
+    }
+
+    @Override
+    public LevelLightEngine getLightEngine(){
+        return null;
+    }
+
+    @Override
+    public WorldBorder getWorldBorder(){
+        return null;
+    }
+
+    @Override
+    public List<VoxelShape> getEntityCollisions(@Nullable Entity entity, AABB collisionBox){
+        return Collections.emptyList();
+    }
+}
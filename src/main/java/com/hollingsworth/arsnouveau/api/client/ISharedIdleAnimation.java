@@ -0,0 +1,8 @@
+package com.hollingsworth.arsnouveau.api.client;
+
+/**
+ * Marks a block entity whose animation is a plain idle loop that does not depend on its own state.
+ * Renderers may evaluate the loop once per frame for all block entities sharing a model and reuse that pose.
+ */
+public interface ISharedIdleAnimation {
+}
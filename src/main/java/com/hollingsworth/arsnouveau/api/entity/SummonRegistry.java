@@ -0,0 +1,92 @@
+package com.hollingsworth.arsnouveau.api.entity;
+
+import com.hollingsworth.arsnouveau.ArsNouveau;
+import com.hollingsworth.arsnouveau.api.event.SummonEvent;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.event.entity.EntityJoinWorldEvent;
+import net.minecraftforge.event.entity.EntityLeaveWorldEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.*;
+
+/**
+ * Live summons on the server, per level and keyed by owner, so owner lookups do not need an entity scan.
+ * Filled by SummonEvent and by summons loading back in with their chunk, emptied by SummonEvent.Death and by the
+ * entity leaving the level for any other reason.
+ */
+@Mod.EventBusSubscriber(modid = ArsNouveau.MODID)
+public class SummonRegistry {
+    private static final Map<Level, Map<UUID, Set<ISummon>>> SUMMONS = new HashMap<>();
+
+    /**
+     * The live summons owned by the given entity, safe to hold while summoning or killing others.
+     */
+    public static List<LivingEntity> getSummons(Level level, UUID owner){
+        Map<UUID, Set<ISummon>> byOwner = SUMMONS.get(level);
+        Set<ISummon> summons = byOwner == null ? null : byOwner.get(owner);
+        if(summons == null || summons.isEmpty())
+            return Collections.emptyList();
+        List<LivingEntity> living = new ArrayList<>(summons.size());
+        for(ISummon summon : summons){
+            LivingEntity entity = summon.getLivingEntity();
+            if(entity != null && entity.isAlive())
+                living.add(entity);
+        }
+        return living;
+    }
+
+    public static void add(Level level, ISummon summon){
+        if(level.isClientSide || summon.getOwnerID() == null)
+            return;
+        SUMMONS.computeIfAbsent(level, k -> new HashMap<>()).computeIfAbsent(summon.getOwnerID(), k -> new LinkedHashSet<>()).add(summon);
+    }
+
+    public static void remove(Level level, ISummon summon){
+        Map<UUID, Set<ISummon>> byOwner = SUMMONS.get(level);
+        if(byOwner == null)
+            return;
+        // The owner may have changed since the summon was added, so look everywhere if the current one misses
+        UUID owner = summon.getOwnerID();
+        Set<ISummon> summons = owner == null ? null : byOwner.get(owner);
+        if(summons != null && summons.remove(summon)){
+            if(summons.isEmpty())
+                byOwner.remove(owner);
+            return;
+        }
+        byOwner.values().removeIf(set -> set.remove(summon) && set.isEmpty());
+    }
+
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void summoned(SummonEvent event){
+        add(event.world, event.summon);
+    }
+
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void summonDeath(SummonEvent.Death event){
+        remove(event.world, event.summon);
+    }
+
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void entityJoin(EntityJoinWorldEvent event){
+        if(event.getEntity() instanceof ISummon summon)
+            add(event.getWorld(), summon);
+    }
+
+    @SubscribeEvent
+    public static void entityLeave(EntityLeaveWorldEvent event){
+        Entity entity = event.getEntity();
+        if(entity instanceof ISummon summon && !event.getWorld().isClientSide)
+            remove(event.getWorld(), summon);
+    }
+
+    @SubscribeEvent
+    public static void worldUnload(WorldEvent.Unload event){
+        if(event.getWorld() instanceof Level level)
+            SUMMONS.remove(level);
+    }
+}
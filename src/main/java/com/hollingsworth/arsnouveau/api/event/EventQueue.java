@@ -1,36 +1,47 @@
 package com.hollingsworth.arsnouveau.api.event;
 
 import com.hollingsworth.arsnouveau.ArsNouveau;
+import com.hollingsworth.arsnouveau.common.util.TickProfiler;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
 import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.server.ServerStoppingEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.LogicalSide;
 import net.minecraftforge.fml.common.Mod;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 /**
  * For queuing deferred or over-time tasks. Tick refers to the Server or Client Tick event.
+ * Events added with {@link #addEvent} tick every tick until expired. Events added with {@link #scheduleEvent} wait in a
+ * timer wheel without ticking and join the ticking events once their delay has passed.
  */
 @Mod.EventBusSubscriber(modid = ArsNouveau.MODID)
 public class EventQueue {
     List<ITimedEvent> events;
+    private final TimerWheel<ITimedEvent> scheduled = new TimerWheel<>();
 
     public void tick(boolean serverSide){
+        scheduled.advance(this::addEvent);
         if(events == null || events.isEmpty()) {
             return;
         }
 
-        List<ITimedEvent> stale = new ArrayList<>();
-        // Enhanced-for or iterator will cause a concurrent modification.
+        // Compact in place rather than collecting stale events, newly added events are appended and ticked in this pass.
+        List<ITimedEvent> events = this.events;
+        int kept = 0;
         for(int i = 0; i < events.size(); i++){
             ITimedEvent event = events.get(i);
-            if (event.isExpired()) {
-                stale.add(event);
-            } else {
+            if (!event.isExpired()) {
+                long start = serverSide ? TickProfiler.start() : 0L;
                 event.tick(serverSide);
+                TickProfiler.record(TickProfiler.Category.EVENT_QUEUE, event.getClass(), null, start);
+                events.set(kept++, event);
             }
         }
-        this.events.removeAll(stale);
+        events.subList(kept, events.size()).clear();
     }
 
     public void addEvent(ITimedEvent event){
@@ -39,6 +50,29 @@ public class EventQueue {
         events.add(event);
     }
 
+    /**
+     * Adds the event to the ticking events after the given number of ticks, 0 meaning the next queue tick.
+     * Use this for events that do nothing until a deadline, as they cost nothing while they wait.
+     */
+    public void scheduleEvent(ITimedEvent event, int delay){
+        scheduled.schedule(event, delay);
+    }
+
+    public int size(){
+        return (events == null ? 0 : events.size()) + scheduled.size();
+    }
+
+    /**
+     * Counts the ticking and waiting events by class name.
+     */
+    public Map<String, Integer> countByType(){
+        Map<String, Integer> counts = new TreeMap<>();
+        if(events != null)
+            events.forEach(e -> counts.merge(e.getClass().getSimpleName(), 1, Integer::sum));
+        scheduled.forEach(e -> counts.merge(e.getClass().getSimpleName() + " (scheduled)", 1, Integer::sum));
+        return counts;
+    }
+
     public static EventQueue getServerInstance(){
         if(serverQueue == null)
             serverQueue = new EventQueue();
@@ -51,15 +85,29 @@ public class EventQueue {
         return clientQueue;
     }
 
+    /**
+     * Queue ticked with the given level and torn down when it unloads. Client levels share the client queue.
+     */
+    public static EventQueue getLevelQueue(Level level){
+        if(level.isClientSide)
+            return getClientQueue();
+        return levelQueues.computeIfAbsent(level.dimension(), k -> new EventQueue());
+    }
+
+    public static Map<ResourceKey<Level>, EventQueue> getLevelQueues(){
+        return Collections.unmodifiableMap(levelQueues);
+    }
 
     // Tear down on world unload
     public void clear(){
         this.events = null;
+        this.scheduled.clear();
     }
 
     // Split these because our integrated servers are CURSED and both tick.
     private static EventQueue serverQueue;
     private static EventQueue clientQueue;
+    private static final Map<ResourceKey<Level>, EventQueue> levelQueues = new HashMap<>();
     private EventQueue(){
         events = new ArrayList<>();
     }
@@ -73,6 +121,16 @@ public class EventQueue {
         EventQueue.getServerInstance().tick(true);
     }
 
+    @SubscribeEvent
+    public static void levelTick(TickEvent.WorldTickEvent e) {
+        if (e.phase != TickEvent.Phase.END || e.side != LogicalSide.SERVER)
+            return;
+
+        EventQueue queue = levelQueues.get(e.world.dimension());
+        if (queue != null)
+            queue.tick(true);
+    }
+
     @SubscribeEvent
     public static void clientTickEvent(TickEvent.ClientTickEvent e) {
 
@@ -81,4 +139,24 @@ public class EventQueue {
 
         EventQueue.getClientQueue().tick(false);
     }
+
+    @SubscribeEvent
+    public static void worldUnload(WorldEvent.Unload e) {
+        if (!(e.getWorld() instanceof Level level))
+            return;
+        if (level.isClientSide) {
+            getClientQueue().clear();
+        } else {
+            EventQueue queue = levelQueues.remove(level.dimension());
+            if (queue != null)
+                queue.clear();
+        }
+    }
+
+    @SubscribeEvent
+    public static void serverStopping(ServerStoppingEvent e) {
+        getServerInstance().clear();
+        levelQueues.values().forEach(EventQueue::clear);
+        levelQueues.clear();
+    }
 }
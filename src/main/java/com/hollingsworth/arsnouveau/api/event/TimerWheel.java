@@ -0,0 +1,107 @@
+package com.hollingsworth.arsnouveau.api.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Two level hashed timer wheel. Scheduling and expiry are constant time: the first wheel holds one slot per tick for
+ * the next 256 ticks, the second holds one slot per 256 ticks and is cascaded into the first as time reaches it.
+ * Deadlines past the end of the second wheel are parked in its furthest slot and re-bucketed when cascaded.
+ */
+public class TimerWheel<T> {
+    private static final int SLOT_BITS = 8;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final long SPAN = (long) SLOTS * SLOTS;
+
+    @SuppressWarnings("unchecked")
+    private final List<Entry<T>>[] near = new List[SLOTS];
+    @SuppressWarnings("unchecked")
+    private final List<Entry<T>>[] far = new List[SLOTS];
+    private long currentTick;
+    private int size;
+
+    /**
+     * Schedules a value to be fired by the advance call that is {@code delay} ticks from now, 0 being the next call.
+     */
+    public void schedule(T value, int delay){
+        insert(new Entry<>(value, currentTick + Math.max(0, delay)));
+        size++;
+    }
+
+    /**
+     * Moves time forward by one tick and fires everything due. Values scheduled while firing are never fired by the
+     * same call.
+     */
+    public void advance(Consumer<T> fire){
+        if(size == 0){
+            currentTick++;
+            return;
+        }
+        if((currentTick & MASK) == 0)
+            cascade();
+        int slot = (int) (currentTick & MASK);
+        List<Entry<T>> due = near[slot];
+        near[slot] = null;
+        currentTick++;
+        if(due == null)
+            return;
+        size -= due.size();
+        for(Entry<T> entry : due){
+            fire.accept(entry.value);
+        }
+    }
+
+    public void forEach(Consumer<T> consumer){
+        for(List<Entry<T>> slot : near){
+            if(slot != null)
+                slot.forEach(e -> consumer.accept(e.value));
+        }
+        for(List<Entry<T>> slot : far){
+            if(slot != null)
+                slot.forEach(e -> consumer.accept(e.value));
+        }
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public void clear(){
+        for(int i = 0; i < SLOTS; i++){
+            near[i] = null;
+            far[i] = null;
+        }
+        size = 0;
+    }
+
+    private void cascade(){
+        int slot = (int) ((currentTick >> SLOT_BITS) & MASK);
+        List<Entry<T>> entries = far[slot];
+        if(entries == null)
+            return;
+        far[slot] = null;
+        for(Entry<T> entry : entries){
+            insert(entry);
+        }
+    }
+
+    private void insert(Entry<T> entry){
+        long delta = entry.deadline - currentTick;
+        if(delta < SLOTS){
+            add(near, (int) (entry.deadline & MASK), entry);
+        }else{
+            long bucketTick = delta < SPAN ? entry.deadline : currentTick + SPAN - 1;
+            add(far, (int) ((bucketTick >> SLOT_BITS) & MASK), entry);
+        }
+    }
+
+    private static <T> void add(List<Entry<T>>[] wheel, int slot, Entry<T> entry){
+        if(wheel[slot] == null)
+            wheel[slot] = new ArrayList<>();
+        wheel[slot].add(entry);
+    }
+
+    private record Entry<T>(T value, long deadline){}
+}
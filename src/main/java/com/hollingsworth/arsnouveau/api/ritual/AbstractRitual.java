@@ -6,6 +6,7 @@ import com.hollingsworth.arsnouveau.common.block.tile.RitualBrazierTile;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.TranslatableComponent;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
@@ -44,6 +45,13 @@ public abstract class AbstractRitual {
 
     public @Nullable Level getWorld(){return tile != null ? tile.getLevel() : null;}
 
+    /**
+     * Entities of the given class within range of the brazier, looked up through the shared {@link RitualEntityCensus}.
+     */
+    public <T extends Entity> List<T> getNearbyEntities(Class<T> type, double range){
+        return RitualEntityCensus.getEntities(getWorld(), getPos(), range, type);
+    }
+
     public boolean canStart(){
         return true;
     }
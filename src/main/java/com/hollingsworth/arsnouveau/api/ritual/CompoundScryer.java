@@ -21,7 +21,29 @@ public class CompoundScryer implements IScryer{
 
     @Override
     public boolean shouldRevealBlock(BlockState state, BlockPos p, Player player) {
-        return scryerList.stream().anyMatch(scryer -> scryer.shouldRevealBlock(state, p, player));
+        for(IScryer scryer : scryerList){
+            if(scryer.shouldRevealBlock(state, p, player))
+                return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean mayReveal(BlockState state) {
+        for(IScryer scryer : scryerList){
+            if(scryer.mayReveal(state))
+                return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        for(IScryer scryer : scryerList){
+            if(!scryer.isThreadSafe())
+                return false;
+        }
+        return true;
     }
 
     @Override
@@ -10,6 +10,22 @@ public interface IScryer {
 
     boolean shouldRevealBlock(BlockState state, BlockPos p, Player player);
 
+    /**
+     * Position independent pre-check used to reject whole chunk sections by their palette before scanning.
+     * Must return true for every state that {@link #shouldRevealBlock} could accept. Always called on the client thread.
+     */
+    default boolean mayReveal(BlockState state){
+        return true;
+    }
+
+    /**
+     * Scryers that only read the state and position they are given may return true to be scanned on a background
+     * worker. {@link #shouldRevealBlock} is then called off the client thread with a null player.
+     */
+    default boolean isThreadSafe(){
+        return false;
+    }
+
     IScryer fromTag(CompoundTag tag);
 
     default CompoundTag toTag(CompoundTag tag){
@@ -0,0 +1,123 @@
+package com.hollingsworth.arsnouveau.api.ritual;
+
+import com.hollingsworth.arsnouveau.ArsNouveau;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Shared entity lookups for rituals. The first ritual to look at a chunk section in a tick queries its own box with
+ * getEntitiesOfClass, exactly as before. Rituals that look at a section another ritual already looked at that tick use
+ * per section, per class results that are kept for the rest of the tick. Sections missing from those results are filled
+ * by one query over their bounds, so no ritual issues more than one query per call and a cluster of rituals in a base
+ * queries each section once per class. Each caller still gets only the live entities inside its own box.
+ */
+@Mod.EventBusSubscriber(modid = ArsNouveau.MODID)
+public class RitualEntityCensus {
+    private static final Map<Level, RitualEntityCensus> CENSUSES = new HashMap<>();
+
+    // Sections a ritual has looked at this tick
+    private final LongSet queried = new LongOpenHashSet();
+    // Entities by class and section, only for the current tick
+    private final Map<Class<?>, Long2ObjectMap<List<? extends Entity>>> sections = new HashMap<>();
+    private long gameTime = Long.MIN_VALUE;
+
+    public static <T extends Entity> List<T> getEntities(Level level, BlockPos center, double radius, Class<T> type){
+        AABB box = new AABB(center).inflate(radius);
+        RitualEntityCensus census = CENSUSES.computeIfAbsent(level, k -> new RitualEntityCensus());
+        long now = level.getGameTime();
+        if(census.gameTime != now){
+            census.sections.clear();
+            census.queried.clear();
+            census.gameTime = now;
+        }
+
+        int minX = SectionPos.posToSectionCoord(box.minX), maxX = SectionPos.posToSectionCoord(box.maxX);
+        int minY = SectionPos.posToSectionCoord(box.minY), maxY = SectionPos.posToSectionCoord(box.maxY);
+        int minZ = SectionPos.posToSectionCoord(box.minZ), maxZ = SectionPos.posToSectionCoord(box.maxZ);
+        boolean shared = false;
+        for(int x = minX; x <= maxX; x++){
+            for(int y = minY; y <= maxY; y++){
+                for(int z = minZ; z <= maxZ; z++){
+                    if(!census.queried.add(SectionPos.asLong(x, y, z)))
+                        shared = true;
+                }
+            }
+        }
+        if(!shared)
+            return level.getEntitiesOfClass(type, box);
+
+        Long2ObjectMap<List<? extends Entity>> byClass = census.sections.computeIfAbsent(type, k -> new Long2ObjectOpenHashMap<>());
+        // Sections of the box not yet looked up for this class are filled by a single query over their bounds
+        LongList missing = new LongArrayList();
+        AABB missingBounds = null;
+        for(int x = minX; x <= maxX; x++){
+            for(int y = minY; y <= maxY; y++){
+                for(int z = minZ; z <= maxZ; z++){
+                    long section = SectionPos.asLong(x, y, z);
+                    if(!byClass.containsKey(section)){
+                        missing.add(section);
+                        AABB sectionBox = sectionBox(x, y, z);
+                        missingBounds = missingBounds == null ? sectionBox : missingBounds.minmax(sectionBox);
+                    }
+                }
+            }
+        }
+        if(missingBounds != null){
+            List<T> found = level.getEntitiesOfClass(type, missingBounds);
+            for(int i = 0; i < missing.size(); i++){
+                long section = missing.getLong(i);
+                AABB sectionBox = sectionBox(SectionPos.x(section), SectionPos.y(section), SectionPos.z(section));
+                List<Entity> inSection = new ArrayList<>();
+                for(T entity : found){
+                    if(entity.getBoundingBox().intersects(sectionBox))
+                        inSection.add(entity);
+                }
+                byClass.put(section, inSection);
+            }
+        }
+
+        List<T> matching = new ArrayList<>();
+        Set<Entity> seen = new ReferenceOpenHashSet<>();
+        for(int x = minX; x <= maxX; x++){
+            for(int y = minY; y <= maxY; y++){
+                for(int z = minZ; z <= maxZ; z++){
+                    for(Entity entity : byClass.get(SectionPos.asLong(x, y, z))){
+                        if(!entity.isRemoved() && entity.getBoundingBox().intersects(box) && seen.add(entity))
+                            matching.add(type.cast(entity));
+                    }
+                }
+            }
+        }
+        return matching;
+    }
+
+    private static AABB sectionBox(int x, int y, int z){
+        return new AABB(SectionPos.sectionToBlockCoord(x), SectionPos.sectionToBlockCoord(y), SectionPos.sectionToBlockCoord(z),
+                SectionPos.sectionToBlockCoord(x + 1), SectionPos.sectionToBlockCoord(y + 1), SectionPos.sectionToBlockCoord(z + 1));
+    }
+
+    @SubscribeEvent
+    public static void worldUnload(WorldEvent.Unload event){
+        if(event.getWorld() instanceof Level level)
+            CENSUSES.remove(level);
+    }
+}
@@ -24,6 +24,16 @@ public class SingleBlockScryer implements IScryer{
         return state.getBlock() == block;
     }
 
+    @Override
+    public boolean mayReveal(BlockState state) {
+        return block != null && state.getBlock() == block;
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     @Override
     public IScryer fromTag(CompoundTag tag) {
         SingleBlockScryer scryer = new SingleBlockScryer(null);
@@ -27,6 +27,16 @@ public class TagScryer implements IScryer {
         return blockTag != null && state.is(blockTag);
     }
 
+    @Override
+    public boolean mayReveal(BlockState state) {
+        return blockTag != null && state.is(blockTag);
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     @Override
     public IScryer fromTag(CompoundTag tag) {
         TagScryer scryer = new TagScryer();
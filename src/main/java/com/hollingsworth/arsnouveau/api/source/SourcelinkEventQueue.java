@@ -1,42 +1,96 @@
 package com.hollingsworth.arsnouveau.api.source;
 
+import com.hollingsworth.arsnouveau.ArsNouveau;
 import com.hollingsworth.arsnouveau.common.block.tile.SourcelinkTile;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.eventbus.api.Event;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
 
 import java.util.*;
 
+/**
+ * Registry of loaded sourcelinks that listen for world events, keyed by dimension and sourcelink type and bucketed by chunk.
+ * Sourcelinks register themselves when they first tick and are removed when their block entity is removed or unloaded,
+ * so event lookups only visit the chunks within {@link SourcelinkTile#EVENT_RANGE} of the event.
+ */
+@Mod.EventBusSubscriber(modid = ArsNouveau.MODID)
 public class SourcelinkEventQueue {
 
-    public static Map<String, Set<BlockPos>> posMap = new HashMap<>();
+    private static final Map<ResourceKey<Level>, Map<Class<? extends SourcelinkTile>, Long2ObjectMap<List<SourcelinkTile>>>> REGISTRY = new HashMap<>();
+
+    /**
+     * @deprecated Sourcelinks now register themselves with {@link #register(SourcelinkTile)} when they first tick.
+     * Kept for addons, this registers the sourcelink at pos if there is one.
+     */
+    @Deprecated
     public static void addPosition(Level world, BlockPos pos){
-        String key = world.dimension().getRegistryName().toString();
-        if(!posMap.containsKey(key))
-            posMap.put(key, new HashSet<>());
+        if(world.getBlockEntity(pos) instanceof SourcelinkTile tile)
+            register(tile);
+    }
 
-        posMap.get(key).add(pos);
+    public static void register(SourcelinkTile tile){
+        List<SourcelinkTile> bucket = getBuckets(tile.getLevel().dimension(), tile.getClass())
+                .computeIfAbsent(ChunkPos.asLong(tile.getBlockPos()), k -> new ArrayList<>());
+        if(!bucket.contains(tile))
+            bucket.add(tile);
+    }
+
+    public static void unregister(SourcelinkTile tile){
+        if(tile.getLevel() == null)
+            return;
+        Map<Class<? extends SourcelinkTile>, Long2ObjectMap<List<SourcelinkTile>>> byType = REGISTRY.get(tile.getLevel().dimension());
+        if(byType == null)
+            return;
+        Long2ObjectMap<List<SourcelinkTile>> chunks = byType.get(tile.getClass());
+        if(chunks == null)
+            return;
+        long chunkKey = ChunkPos.asLong(tile.getBlockPos());
+        List<SourcelinkTile> bucket = chunks.get(chunkKey);
+        if(bucket != null && bucket.remove(tile) && bucket.isEmpty())
+            chunks.remove(chunkKey);
     }
 
     public static void addManaEvent(Level world, Class<? extends SourcelinkTile> tileType, int amount, Event event, BlockPos sourcePos){
-        List<BlockPos> stalePos = new ArrayList<>();
-        Set<BlockPos> worldList = posMap.getOrDefault(world.dimension().getRegistryName().toString(), new HashSet<>());
-        for(BlockPos p : worldList){
-            if(!world.isLoaded(p))
-                continue;
-            BlockEntity entity = world.getBlockEntity(p);
-            if(world.getBlockEntity(p) == null || !(entity instanceof SourcelinkTile)){
-                stalePos.add(p);
-                continue;
-            }
-            if(entity.getClass().equals(tileType) && ((SourcelinkTile) entity).eventInRange(sourcePos, event) && ((SourcelinkTile) entity).canAcceptSource()){
-                ((SourcelinkTile) entity).getManaEvent(sourcePos, amount);
-                break;
+        Map<Class<? extends SourcelinkTile>, Long2ObjectMap<List<SourcelinkTile>>> byType = REGISTRY.get(world.dimension());
+        if(byType == null)
+            return;
+        Long2ObjectMap<List<SourcelinkTile>> chunks = byType.get(tileType);
+        if(chunks == null || chunks.isEmpty())
+            return;
+        int minX = SectionPos.blockToSectionCoord(sourcePos.getX() - SourcelinkTile.EVENT_RANGE);
+        int maxX = SectionPos.blockToSectionCoord(sourcePos.getX() + SourcelinkTile.EVENT_RANGE);
+        int minZ = SectionPos.blockToSectionCoord(sourcePos.getZ() - SourcelinkTile.EVENT_RANGE);
+        int maxZ = SectionPos.blockToSectionCoord(sourcePos.getZ() + SourcelinkTile.EVENT_RANGE);
+        for(int x = minX; x <= maxX; x++){
+            for(int z = minZ; z <= maxZ; z++){
+                List<SourcelinkTile> bucket = chunks.get(ChunkPos.asLong(x, z));
+                if(bucket == null)
+                    continue;
+                for(SourcelinkTile tile : bucket){
+                    if(!tile.isRemoved() && tile.eventInRange(sourcePos, event) && tile.canAcceptSource()){
+                        tile.getManaEvent(sourcePos, amount);
+                        return;
+                    }
+                }
             }
         }
-        for(BlockPos p : stalePos){
-            worldList.remove(p);
-        }
+    }
+
+    private static Long2ObjectMap<List<SourcelinkTile>> getBuckets(ResourceKey<Level> dimension, Class<? extends SourcelinkTile> tileType){
+        return REGISTRY.computeIfAbsent(dimension, k -> new HashMap<>()).computeIfAbsent(tileType, k -> new Long2ObjectOpenHashMap<>());
+    }
+
+    @SubscribeEvent
+    public static void worldUnload(WorldEvent.Unload event){
+        if(event.getWorld() instanceof Level level && !level.isClientSide)
+            REGISTRY.remove(level.dimension());
     }
 }
@@ -0,0 +1,111 @@
+package com.hollingsworth.arsnouveau.api.spell;
+
+import com.hollingsworth.arsnouveau.api.ArsNouveauAPI;
+import io.netty.handler.codec.DecoderException;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.network.FriendlyByteBuf;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Numbers the registered glyphs so spells can be sent over the network as varint arrays instead of id strings.
+ * Indices follow the sorted glyph ids. The server sends its table to each player at login and the client reads and
+ * writes spells with that table, so both sides agree on every index even when their glyph sets differ. A glyph only one
+ * side knows is dropped, the same as an unknown id in {@link Spell#deserialize}.
+ */
+public class GlyphTable {
+    // Longest spell accepted from the network, checked before anything is allocated for it
+    public static final int MAX_SPELL_LENGTH = 256;
+
+    private static GlyphTable local;
+    private static volatile GlyphTable server;
+
+    private final List<String> ids;
+    private final AbstractSpellPart[] parts;
+    private final Object2IntMap<String> indexOf = new Object2IntOpenHashMap<>();
+
+    public GlyphTable(List<String> ids){
+        this.ids = ids;
+        this.parts = new AbstractSpellPart[ids.size()];
+        this.indexOf.defaultReturnValue(-1);
+        for(int i = 0; i < ids.size(); i++){
+            parts[i] = ArsNouveauAPI.getInstance().getSpellpartMap().get(ids.get(i));
+            indexOf.put(ids.get(i), i);
+        }
+    }
+
+    /**
+     * The table for the glyphs registered in this game instance, the one the server reads and writes with.
+     */
+    public static synchronized GlyphTable getLocal(){
+        if(local == null){
+            List<String> ids = new ArrayList<>(ArsNouveauAPI.getInstance().getSpellpartMap().keySet());
+            ids.sort(null);
+            local = new GlyphTable(ids);
+        }
+        return local;
+    }
+
+    /**
+     * The table of the server this client is connected to, for spells sent to or received from it.
+     */
+    public static GlyphTable getServer(){
+        GlyphTable table = server;
+        return table == null ? getLocal() : table;
+    }
+
+    /**
+     * Set from the network thread when the table arrives, so packets decoded right after it already use it, and
+     * cleared on logout.
+     */
+    public static void setServer(@Nullable GlyphTable table){
+        server = table;
+    }
+
+    public void writeSpell(FriendlyByteBuf buf, Spell spell){
+        int[] indices = new int[spell.recipe.size()];
+        int count = 0;
+        for(AbstractSpellPart part : spell.recipe){
+            int index = indexOf.getInt(part.getId());
+            if(index >= 0)
+                indices[count++] = index;
+        }
+        buf.writeVarInt(count);
+        for(int i = 0; i < count; i++){
+            buf.writeVarInt(indices[i]);
+        }
+    }
+
+    public Spell readSpell(FriendlyByteBuf buf){
+        int count = buf.readVarInt();
+        if(count < 0 || count > MAX_SPELL_LENGTH)
+            throw new DecoderException("Spell of " + count + " glyphs is longer than " + MAX_SPELL_LENGTH);
+        List<AbstractSpellPart> recipe = new ArrayList<>();
+        for(int i = 0; i < count; i++){
+            int index = buf.readVarInt();
+            AbstractSpellPart part = index >= 0 && index < parts.length ? parts[index] : null;
+            if(part != null)
+                recipe.add(part);
+        }
+        return new Spell(recipe);
+    }
+
+    public void writeTable(FriendlyByteBuf buf){
+        buf.writeVarInt(ids.size());
+        for(String id : ids){
+            buf.writeUtf(id);
+        }
+    }
+
+    public static GlyphTable readTable(FriendlyByteBuf buf){
+        int size = buf.readVarInt();
+        List<String> ids = new ArrayList<>();
+        for(int i = 0; i < size; i++){
+            ids.add(buf.readUtf());
+        }
+        return new GlyphTable(ids);
+    }
+}
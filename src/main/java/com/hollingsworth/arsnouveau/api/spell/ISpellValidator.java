@@ -1,5 +1,6 @@
 package com.hollingsworth.arsnouveau.api.spell;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -19,4 +20,36 @@ public interface ISpellValidator {
      * @return a list of any {@link SpellValidationError}s found.
      */
     List<SpellValidationError> validate(List<AbstractSpellPart> spellRecipe);
+
+    /**
+     * Validates the given recipe once so that many candidate glyphs can be checked against it, as the spell book does
+     * for every glyph button. The default re-validates the whole recipe per candidate; validators that can snapshot
+     * their state after the prefix override this to only look at the extra glyph.
+     *
+     * @param prefix the recipe the candidates are appended to. The list is copied and may change afterwards.
+     * @return a checkpoint reporting the errors a candidate would add at its own position.
+     */
+    default Checkpoint checkpoint(List<AbstractSpellPart> prefix) {
+        List<AbstractSpellPart> recipe = new ArrayList<>(prefix);
+        int position = recipe.size();
+        return next -> {
+            recipe.add(next);
+            List<SpellValidationError> errors = new ArrayList<>(validate(recipe));
+            recipe.remove(position);
+            errors.removeIf(e -> e.getPosition() < position);
+            return errors;
+        };
+    }
+
+    /**
+     * Validation state after a recipe prefix, see {@link #checkpoint}.
+     */
+    @FunctionalInterface
+    interface Checkpoint {
+        /**
+         * Returns the errors at the position of <code>next</code> if it were appended to the prefix. The checkpoint is
+         * not changed, so it can be asked about any number of glyphs.
+         */
+        List<SpellValidationError> validateNext(AbstractSpellPart next);
+    }
 }
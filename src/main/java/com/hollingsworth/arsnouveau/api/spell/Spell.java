@@ -5,11 +5,19 @@ import net.minecraft.world.entity.LivingEntity;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Spell implements Cloneable{
     public static final Spell EMPTY = new Spell();
 
+    // Parsed recipes by serialized string, shared by every rune, turret and caster holding the same spell.
+    // Glyphs are registered once at startup, so a string always parses to the same recipe.
+    private static final Map<String, List<AbstractSpellPart>> PARSED = new ConcurrentHashMap<>();
+    private static final int MAX_PARSED = 4096;
+
     public List<AbstractSpellPart> recipe = new ArrayList<>();
     private int cost;
 
@@ -113,15 +121,25 @@ public class Spell implements Cloneable{
     }
 
     public static Spell deserialize(String recipeStr){
+        List<AbstractSpellPart> parsed = PARSED.get(recipeStr);
+        if(parsed == null){
+            parsed = parse(recipeStr);
+            if(PARSED.size() < MAX_PARSED)
+                PARSED.put(recipeStr, parsed);
+        }
+        return new Spell(new ArrayList<>(parsed));
+    }
+
+    private static List<AbstractSpellPart> parse(String recipeStr){
         ArrayList<AbstractSpellPart> recipe = new ArrayList<>();
         if (recipeStr.length() <= 3) // Account for empty strings and '[,]'
-            return new Spell(recipe);
+            return Collections.emptyList();
         String[] recipeList = recipeStr.substring(1, recipeStr.length() - 1).split(",");
         for(String id : recipeList){
             if (ArsNouveauAPI.getInstance().getSpellpartMap().containsKey(id.trim()))
                 recipe.add(ArsNouveauAPI.getInstance().getSpellpartMap().get(id.trim()));
         }
-        return new Spell(recipe);
+        return Collections.unmodifiableList(recipe);
     }
 
     public String getDisplayString(){
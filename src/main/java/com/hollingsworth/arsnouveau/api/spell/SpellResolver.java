@@ -10,6 +10,7 @@ import com.hollingsworth.arsnouveau.api.util.CuriosUtil;
 import com.hollingsworth.arsnouveau.api.util.SpellUtil;
 import com.hollingsworth.arsnouveau.common.capability.CapabilityRegistry;
 import com.hollingsworth.arsnouveau.common.util.PortUtil;
+import com.hollingsworth.arsnouveau.common.util.TickProfiler;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.TranslatableComponent;
 import net.minecraft.server.level.ServerLevel;
@@ -162,7 +163,9 @@ public class SpellResolver {
                 EffectResolveEvent.Pre preEvent = new EffectResolveEvent.Pre(world, shooter,  this.hitResult, spell, spellContext, effect, stats);
                 if(MinecraftForge.EVENT_BUS.post(preEvent))
                     continue;
+                long start = TickProfiler.start(world);
                 effect.onResolve(this.hitResult, world, shooter, stats, spellContext, this);
+                TickProfiler.record(TickProfiler.Category.GLYPH, effect, start == 0L || this.hitResult == null ? null : new BlockPos(this.hitResult.getLocation()), start);
                 MinecraftForge.EVENT_BUS.post(new EffectResolveEvent.Post(world, shooter,  this.hitResult, spell, spellContext, effect, stats));
             }
         }
@@ -1,7 +1,8 @@
 package com.hollingsworth.arsnouveau.api.util;
 
 
-import com.google.common.collect.Sets;
+import com.hollingsworth.arsnouveau.common.util.Log;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.util.Mth;
 import net.minecraft.world.damagesource.DamageSource;
@@ -10,6 +11,8 @@ import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.item.PrimedTnt;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.enchantment.ProtectionEnchantment;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.EntityBasedExplosionDamageCalculator;
 import net.minecraft.world.level.Explosion;
 import net.minecraft.world.level.ExplosionDamageCalculator;
 import net.minecraft.world.level.Level;
@@ -17,13 +20,40 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.material.FluidState;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.common.extensions.IForgeBlock;
+import net.minecraftforge.common.extensions.IForgeFluid;
 
 import javax.annotation.Nullable;
-import java.util.List;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 public class ANExplosion extends Explosion {
+    /**
+     * Explosions at least this large cast their rays against a snapshot across the worker pool, when every block in
+     * reach can be read without the level.
+     */
+    public static final float PARALLEL_RADIUS = 4.0F;
+    // Unit directions of vanilla's 16x16x16 surface rays, in vanilla order
+    private static final double[][] RAYS = computeRays();
+    // Whether a block or fluid class overrides the Forge explosion resistance hook
+    private static final Map<Class<?>, Boolean> OVERRIDES_RESISTANCE = new ConcurrentHashMap<>();
+    private static final int WORKER_COUNT = Math.max(1, Math.min(3, Runtime.getRuntime().availableProcessors() - 1));
+    private static final ExecutorService WORKERS = Executors.newFixedThreadPool(WORKER_COUNT, new ThreadFactory() {
+        private int id;
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "Ars Nouveau Explosion Worker #" + (id++));
+            thread.setDaemon(true);
+            thread.setUncaughtExceptionHandler((t, throwable) -> Log.getLogger().error("Explosion worker errored! ", throwable));
+            return thread;
+        }
+    });
+
     public double amps;
     public double baseDamage;
     public double ampDamageScalar;
@@ -47,49 +77,35 @@ public class ANExplosion extends Explosion {
 
     @Override
     public void explode() {
-        Set<BlockPos> set = Sets.newHashSet();
-        int i = 16;
-
-        for(int j = 0; j < 16; ++j) {
-            for(int k = 0; k < 16; ++k) {
-                for(int l = 0; l < 16; ++l) {
-                    if (j == 0 || j == 15 || k == 0 || k == 15 || l == 0 || l == 15) {
-                        double d0 = (float)j / 15.0F * 2.0F - 1.0F;
-                        double d1 = (float)k / 15.0F * 2.0F - 1.0F;
-                        double d2 = (float)l / 15.0F * 2.0F - 1.0F;
-                        double d3 = Math.sqrt(d0 * d0 + d1 * d1 + d2 * d2);
-                        d0 = d0 / d3;
-                        d1 = d1 / d3;
-                        d2 = d2 / d3;
-                        float f = this.radius * (0.7F + this.level.random.nextFloat() * 0.6F);
-                        double d4 = this.x;
-                        double d6 = this.y;
-                        double d8 = this.z;
-
-                        for(float f1 = 0.3F; f > 0.0F; f -= 0.22500001F) {
-                            BlockPos blockpos = new BlockPos(d4, d6, d8);
-                            BlockState blockstate = this.level.getBlockState(blockpos);
-                            FluidState fluidstate = this.level.getFluidState(blockpos);
-                            Optional<Float> optional = this.damageCalculator.getBlockExplosionResistance(this, this.level, blockpos, blockstate, fluidstate);
-                            if (optional.isPresent()) {
-                                f -= (optional.get() + 0.3F) * 0.3F;
-                            }
-
-                            if (f > 0.0F && this.damageCalculator.shouldBlockExplode(this, this.level, blockpos, blockstate, f)) {
-                                set.add(blockpos);
-                            }
+        // Draw the ray strengths up front in vanilla order so the random sequence does not depend on the worker split
+        float[] strengths = new float[RAYS.length];
+        for(int i = 0; i < RAYS.length; i++){
+            strengths[i] = this.radius * (0.7F + this.level.random.nextFloat() * 0.6F);
+        }
+        float f2 = this.radius * 2.0F;
 
-                            d4 += d0 * (double)0.3F;
-                            d6 += d1 * (double)0.3F;
-                            d8 += d2 * (double)0.3F;
-                        }
-                    }
-                }
+        List<LongOpenHashSet> rayResults = null;
+        // Small explosions cost less than the copy, so only large ones are snapshotted
+        if(this.radius >= PARALLEL_RADIUS && isThreadSafeCalculator()){
+            int reach = Mth.ceil(f2) + 3;
+            BlockPos center = new BlockPos(this.x, this.y, this.z);
+            SectionSnapshot snapshot = SectionSnapshot.capture(this.level, center.offset(-reach, -reach, -reach), center.offset(reach, reach, reach), ANExplosion::needsLevel);
+            if(snapshot != null){
+                rayResults = runSlices(RAYS.length, (from, to) -> castRays(snapshot, strengths, from, to));
             }
         }
+        // Unloaded chunks, overridden resistance hooks or a ray leaving the snapshot use the level on this thread
+        if(rayResults == null || rayResults.contains(null)){
+            rayResults = Collections.singletonList(castRays(this.level, strengths, 0, RAYS.length));
+        }
+        LongOpenHashSet merged = new LongOpenHashSet();
+        rayResults.forEach(merged::addAll);
+        long[] blown = merged.toLongArray();
+        Arrays.sort(blown);
+        for(long pos : blown){
+            this.toBlow.add(BlockPos.of(pos));
+        }
 
-        this.toBlow.addAll(set);
-        float f2 = this.radius * 2.0F;
         int k1 = Mth.floor(this.x - (double)f2 - 1.0D);
         int l1 = Mth.floor(this.x + (double)f2 + 1.0D);
         int i2 = Mth.floor(this.y - (double)f2 - 1.0D);
@@ -132,4 +148,116 @@ public class ANExplosion extends Explosion {
             }
         }
     }
+
+    /**
+     * Returns null if a ray leaves the given snapshot, the caller must then cast against the level instead.
+     */
+    @Nullable
+    private LongOpenHashSet castRays(BlockGetter blocks, float[] strengths, int from, int to){
+        SectionSnapshot snapshot = blocks instanceof SectionSnapshot sectionSnapshot ? sectionSnapshot : null;
+        LongOpenHashSet set = new LongOpenHashSet();
+        BlockPos.MutableBlockPos blockpos = new BlockPos.MutableBlockPos();
+        for(int ray = from; ray < to; ray++){
+            double d0 = RAYS[ray][0];
+            double d1 = RAYS[ray][1];
+            double d2 = RAYS[ray][2];
+            float f = strengths[ray];
+            double d4 = this.x;
+            double d6 = this.y;
+            double d8 = this.z;
+
+            for(; f > 0.0F; f -= 0.22500001F) {
+                blockpos.set(d4, d6, d8);
+                if(snapshot != null && !snapshot.contains(blockpos))
+                    return null;
+                BlockState blockstate = blocks.getBlockState(blockpos);
+                FluidState fluidstate = blocks.getFluidState(blockpos);
+                Optional<Float> optional = this.damageCalculator.getBlockExplosionResistance(this, blocks, blockpos, blockstate, fluidstate);
+                if (optional.isPresent()) {
+                    f -= (optional.get() + 0.3F) * 0.3F;
+                }
+
+                if (f > 0.0F && this.damageCalculator.shouldBlockExplode(this, blocks, blockpos, blockstate, f)) {
+                    set.add(blockpos.asLong());
+                }
+
+                d4 += d0 * (double)0.3F;
+                d6 += d1 * (double)0.3F;
+                d8 += d2 * (double)0.3F;
+            }
+        }
+        return set;
+    }
+
+    /**
+     * The vanilla calculator only reads the block and fluid hooks checked by {@link #needsLevel(BlockState)}. The entity
+     * based one also asks the source entity, and only players are trusted not to override those methods.
+     */
+    private boolean isThreadSafeCalculator(){
+        Class<?> type = this.damageCalculator.getClass();
+        if(type == ExplosionDamageCalculator.class)
+            return true;
+        return type == EntityBasedExplosionDamageCalculator.class && this.source instanceof Player;
+    }
+
+    /**
+     * True for states that the rays must read from the live level on the server thread. Block entities alone do not
+     * count, the vanilla calculators never read them, only a block overriding the resistance hook might.
+     */
+    private static boolean needsLevel(BlockState state){
+        return OVERRIDES_RESISTANCE.computeIfAbsent(state.getBlock().getClass(), type -> overrides(type, IForgeBlock.class, BlockState.class))
+                || OVERRIDES_RESISTANCE.computeIfAbsent(state.getFluidState().getType().getClass(), type -> overrides(type, IForgeFluid.class, FluidState.class));
+    }
+
+    private static boolean overrides(Class<?> type, Class<?> forgeInterface, Class<?> stateType){
+        try{
+            return type.getMethod("getExplosionResistance", stateType, BlockGetter.class, BlockPos.class, Explosion.class).getDeclaringClass() != forgeInterface;
+        }catch (NoSuchMethodException e){
+            return true;
+        }
+    }
+
+    /**
+     * Splits [0, size) into one slice per worker plus one for the calling thread and waits for all of them.
+     * Results are returned in slice order so merging them does not depend on scheduling.
+     */
+    private static <T> List<T> runSlices(int size, SliceTask<T> task){
+        int slices = Math.min(WORKER_COUNT + 1, size);
+        if(slices <= 1)
+            return Collections.singletonList(task.run(0, size));
+        List<CompletableFuture<T>> futures = new ArrayList<>(slices - 1);
+        for(int slice = 1; slice < slices; slice++){
+            int from = size * slice / slices;
+            int to = size * (slice + 1) / slices;
+            futures.add(CompletableFuture.supplyAsync(() -> task.run(from, to), WORKERS));
+        }
+        List<T> results = new ArrayList<>(slices);
+        results.add(task.run(0, size / slices));
+        for(CompletableFuture<T> future : futures){
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    private interface SliceTask<T>{
+        T run(int from, int to);
+    }
+
+    private static double[][] computeRays(){
+        List<double[]> rays = new ArrayList<>();
+        for(int j = 0; j < 16; ++j) {
+            for(int k = 0; k < 16; ++k) {
+                for(int l = 0; l < 16; ++l) {
+                    if (j == 0 || j == 15 || k == 0 || k == 15 || l == 0 || l == 15) {
+                        double d0 = (float)j / 15.0F * 2.0F - 1.0F;
+                        double d1 = (float)k / 15.0F * 2.0F - 1.0F;
+                        double d2 = (float)l / 15.0F * 2.0F - 1.0F;
+                        double d3 = Math.sqrt(d0 * d0 + d1 * d1 + d2 * d2);
+                        rays.add(new double[]{d0 / d3, d1 / d3, d2 / d3});
+                    }
+                }
+            }
+        }
+        return rays.toArray(new double[0][]);
+    }
 }
@@ -0,0 +1,122 @@
+package com.hollingsworth.arsnouveau.api.util;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrays;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.BaseFireBlock;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.gameevent.GameEvent;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraftforge.event.ForgeEventFactory;
+
+import javax.annotation.Nullable;
+import java.util.EnumSet;
+
+/**
+ * Collects block changes from one glyph resolve and notifies the world about them once, in {@link #apply}.
+ * Blocks are written immediately so the caller reads its own changes, but client syncing, neighbor updates and shape
+ * updates are held back. On apply they run section by section, once per changed position no matter how often it was
+ * written, and each neighbor is told about a change at most once. Client changes land in the chunk holder's per section
+ * set, so every touched section goes out as a single section update packet at the end of the tick.
+ */
+public class BlockUpdateBatch {
+    private final Level level;
+    // First state seen at each changed position, in the order they were changed
+    private final Long2ObjectLinkedOpenHashMap<BlockState> originals = new Long2ObjectLinkedOpenHashMap<>();
+
+    public BlockUpdateBatch(Level level){
+        this.level = level;
+    }
+
+    /**
+     * Same as Level#setBlockAndUpdate, with the updates deferred until {@link #apply}.
+     */
+    public boolean setBlock(BlockPos pos, BlockState state){
+        if(level.isClientSide)
+            return level.setBlock(pos, state, Block.UPDATE_ALL);
+        BlockState old = level.getBlockState(pos);
+        if(!level.setBlock(pos, state, Block.UPDATE_KNOWN_SHAPE))
+            return false;
+        originals.putIfAbsent(pos.asLong(), old);
+        return true;
+    }
+
+    /**
+     * Same as Level#destroyBlock, with the updates deferred until {@link #apply}. Effects controls the break particles,
+     * sound and game event.
+     */
+    public boolean destroyBlock(BlockPos pos, boolean dropBlock, @Nullable Entity entity, boolean effects){
+        BlockState state = level.getBlockState(pos);
+        if(state.isAir())
+            return false;
+        FluidState fluidState = level.getFluidState(pos);
+        if(effects && !(state.getBlock() instanceof BaseFireBlock))
+            level.levelEvent(2001, pos, Block.getId(state));
+        if(dropBlock){
+            BlockEntity blockEntity = state.hasBlockEntity() ? level.getBlockEntity(pos) : null;
+            Block.dropResources(state, level, pos, blockEntity, entity, ItemStack.EMPTY);
+        }
+        boolean changed = setBlock(pos, fluidState.createLegacyBlock());
+        if(changed && effects)
+            level.gameEvent(entity, GameEvent.BLOCK_DESTROY, pos);
+        return changed;
+    }
+
+    public boolean isEmpty(){
+        return originals.isEmpty();
+    }
+
+    /**
+     * Sends the deferred client, neighbor and shape updates. The batch is empty and reusable afterwards.
+     */
+    public void apply(){
+        if(originals.isEmpty())
+            return;
+        long[] positions = originals.keySet().toLongArray();
+        LongArrays.mergeSort(positions, (a, b) -> Long.compare(sectionKey(a), sectionKey(b)));
+
+        for(long packed : positions){
+            BlockPos changed = BlockPos.of(packed);
+            level.sendBlockUpdated(changed, originals.get(packed), level.getBlockState(changed), Block.UPDATE_ALL);
+        }
+
+        LongSet notified = new LongOpenHashSet();
+        for(long packed : positions){
+            BlockPos changed = BlockPos.of(packed);
+            BlockState original = originals.get(packed);
+            if(ForgeEventFactory.onNeighborNotify(level, changed, level.getBlockState(changed), EnumSet.allOf(Direction.class), false).isCanceled())
+                continue;
+            for(Direction direction : Direction.values()){
+                BlockPos neighbor = changed.relative(direction);
+                if(notified.add(neighbor.asLong()))
+                    level.neighborChanged(neighbor, original.getBlock(), changed);
+            }
+            BlockState current = level.getBlockState(changed);
+            if(current.hasAnalogOutputSignal())
+                level.updateNeighbourForOutputSignal(changed, current.getBlock());
+        }
+
+        for(long packed : positions){
+            BlockPos changed = BlockPos.of(packed);
+            BlockState current = level.getBlockState(changed);
+            originals.get(packed).updateIndirectNeighbourShapes(level, changed, Block.UPDATE_CLIENTS, 511);
+            current.updateNeighbourShapes(level, changed, Block.UPDATE_CLIENTS, 511);
+            current.updateIndirectNeighbourShapes(level, changed, Block.UPDATE_CLIENTS, 511);
+        }
+        originals.clear();
+    }
+
+    private static long sectionKey(long packedPos){
+        return SectionPos.asLong(SectionPos.blockToSectionCoord(BlockPos.getX(packedPos)),
+                SectionPos.blockToSectionCoord(BlockPos.getY(packedPos)), SectionPos.blockToSectionCoord(BlockPos.getZ(packedPos)));
+    }
+}
@@ -80,6 +80,19 @@ public class BlockUtil {
 
     }
 
+    /**
+     * Like {@link #destroyBlockSafely(Level, BlockPos, boolean, LivingEntity)}, with the world updates held in the batch.
+     */
+    public static boolean destroyBlockSafely(BlockUpdateBatch batch, Level world, BlockPos pos, boolean dropBlock, LivingEntity caster){
+        if(!(world instanceof ServerLevel))
+            return false;
+        Player playerEntity = caster instanceof Player ? (Player) caster : ANFakePlayer.getPlayer((ServerLevel) world);
+        if(MinecraftForge.EVENT_BUS.post(new BlockEvent.BreakEvent(world, pos, world.getBlockState(pos),playerEntity)))
+            return false;
+        world.getBlockState(pos).getBlock().playerWillDestroy(world, pos, world.getBlockState(pos), playerEntity);
+        return batch.destroyBlock(pos, dropBlock, null, true);
+    }
+
     public static boolean destroyRespectsClaim(LivingEntity caster, Level world, BlockPos pos){
         Player playerEntity = caster instanceof Player ? (Player) caster : ANFakePlayer.getPlayer((ServerLevel) world);
         return !MinecraftForge.EVENT_BUS.post(new BlockEvent.BreakEvent(world, pos, world.getBlockState(pos),playerEntity));
@@ -109,6 +122,20 @@ public class BlockUtil {
         return destroyBlockWithoutSound(world, pos, dropBlock);
     }
 
+    /**
+     * Like {@link #destroyBlockSafelyWithoutSound(Level, BlockPos, boolean, LivingEntity)}, with the world updates held in the batch.
+     */
+    public static boolean destroyBlockSafelyWithoutSound(BlockUpdateBatch batch, Level world, BlockPos pos, boolean dropBlock, @Nullable LivingEntity caster){
+        if(!(world instanceof ServerLevel))
+            return false;
+
+        Player playerEntity = caster instanceof Player ? (Player) caster : ANFakePlayer.getPlayer((ServerLevel) world);
+        if(MinecraftForge.EVENT_BUS.post(new BlockEvent.BreakEvent(world, pos, world.getBlockState(pos),playerEntity)))
+            return false;
+
+        return batch.destroyBlock(pos, dropBlock, null, false);
+    }
+
     private static boolean destroyBlockWithoutSound(Level world, BlockPos pos, boolean dropBlock) {
         return destroyBlockWithoutSound(world, pos, dropBlock, null);
     }
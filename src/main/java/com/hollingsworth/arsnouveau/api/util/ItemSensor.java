@@ -0,0 +1,237 @@
+package com.hollingsworth.arsnouveau.api.util;
+
+import com.hollingsworth.arsnouveau.ArsNouveau;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.minecraftforge.event.entity.EntityEvent;
+import net.minecraftforge.event.entity.EntityJoinWorldEvent;
+import net.minecraftforge.event.entity.EntityLeaveWorldEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Tracks dropped items on the server by chunk section, fed by item spawn, section change and removal events.
+ * Block entities that wait for items {@link #subscribe} an area once and are handed matching items as they arrive, so an
+ * idle poll is an empty list check instead of a world query. Entities that move around use {@link #getItems} instead,
+ * which only visits the sections of the box that actually hold items.
+ */
+@Mod.EventBusSubscriber(modid = ArsNouveau.MODID)
+public class ItemSensor {
+    private static final Map<Level, ItemSensor> SENSORS = new HashMap<>();
+
+    private final Long2ObjectMap<List<ItemEntity>> itemsBySection = new Long2ObjectOpenHashMap<>();
+    private final Reference2LongMap<ItemEntity> sectionOf = new Reference2LongOpenHashMap<>();
+    private final Long2ObjectMap<List<Subscription>> subscriptionsBySection = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Registers an area to be told about items inside it. The filter is checked when an item arrives and again when the
+     * items are read, it should only look at the item itself. Call {@link Subscription#unsubscribe} when the owner is removed.
+     */
+    public static Subscription subscribe(Level level, AABB area, Predicate<ItemEntity> filter){
+        Subscription subscription = new Subscription(level, area, filter);
+        if(level.isClientSide)
+            return subscription;
+        ItemSensor sensor = get(level);
+        subscription.forEachSection(section -> {
+            sensor.subscriptionsBySection.computeIfAbsent(section, k -> new ArrayList<>()).add(subscription);
+            List<ItemEntity> items = sensor.itemsBySection.get(section);
+            if(items != null)
+                items.forEach(subscription::offer);
+        });
+        return subscription;
+    }
+
+    public static Subscription subscribe(Level level, AABB area){
+        return subscribe(level, area, i -> true);
+    }
+
+    public static List<ItemEntity> getItems(Level level, AABB area){
+        return getItems(level, area, i -> true);
+    }
+
+    /**
+     * Equivalent to getEntitiesOfClass for items, answered from the section index on the server.
+     */
+    public static List<ItemEntity> getItems(Level level, AABB area, Predicate<ItemEntity> filter){
+        if(level.isClientSide)
+            return level.getEntitiesOfClass(ItemEntity.class, area, filter);
+        ItemSensor sensor = SENSORS.get(level);
+        if(sensor == null || sensor.itemsBySection.isEmpty())
+            return Collections.emptyList();
+        List<ItemEntity> found = new ArrayList<>();
+        forEachSection(area, section -> {
+            List<ItemEntity> items = sensor.itemsBySection.get(section);
+            if(items == null)
+                return;
+            for(ItemEntity item : items){
+                if(!item.isRemoved() && item.getBoundingBox().intersects(area) && filter.test(item))
+                    found.add(item);
+            }
+        });
+        return found;
+    }
+
+    private static ItemSensor get(Level level){
+        return SENSORS.computeIfAbsent(level, k -> new ItemSensor());
+    }
+
+    private void add(ItemEntity item, long section){
+        sectionOf.put(item, section);
+        itemsBySection.computeIfAbsent(section, k -> new ArrayList<>()).add(item);
+        List<Subscription> subscriptions = subscriptionsBySection.get(section);
+        if(subscriptions != null)
+            subscriptions.forEach(s -> s.offer(item));
+    }
+
+    private void remove(ItemEntity item){
+        if(!sectionOf.containsKey(item))
+            return;
+        long section = sectionOf.removeLong(item);
+        List<ItemEntity> items = itemsBySection.get(section);
+        if(items != null){
+            items.remove(item);
+            if(items.isEmpty())
+                itemsBySection.remove(section);
+        }
+        List<Subscription> subscriptions = subscriptionsBySection.get(section);
+        if(subscriptions != null)
+            subscriptions.forEach(s -> s.candidates.remove(item));
+    }
+
+    /**
+     * Items are indexed by the section of their position, so the area is grown the same way vanilla's EntitySectionStorage
+     * grows it, two blocks sideways and four below, to reach items positioned just across a section boundary whose box
+     * still touches the area.
+     */
+    private static void forEachSection(AABB area, SectionConsumer consumer){
+        int minX = SectionPos.posToSectionCoord(area.minX - 2.0D), maxX = SectionPos.posToSectionCoord(area.maxX + 2.0D);
+        int minY = SectionPos.posToSectionCoord(area.minY - 4.0D), maxY = SectionPos.posToSectionCoord(area.maxY);
+        int minZ = SectionPos.posToSectionCoord(area.minZ - 2.0D), maxZ = SectionPos.posToSectionCoord(area.maxZ + 2.0D);
+        for(int x = minX; x <= maxX; x++){
+            for(int y = minY; y <= maxY; y++){
+                for(int z = minZ; z <= maxZ; z++){
+                    consumer.accept(SectionPos.asLong(x, y, z));
+                }
+            }
+        }
+    }
+
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void itemJoin(EntityJoinWorldEvent event){
+        if(event.getEntity() instanceof ItemEntity item && !event.getWorld().isClientSide){
+            ItemSensor sensor = get(event.getWorld());
+            sensor.remove(item);
+            sensor.add(item, SectionPos.asLong(item.blockPosition()));
+        }
+    }
+
+    @SubscribeEvent
+    public static void itemMoved(EntityEvent.EnteringSection event){
+        if(event.getEntity() instanceof ItemEntity item && !item.level.isClientSide){
+            ItemSensor sensor = SENSORS.get(item.level);
+            if(sensor == null)
+                return;
+            sensor.remove(item);
+            sensor.add(item, event.getPackedNewPos());
+        }
+    }
+
+    @SubscribeEvent
+    public static void itemLeave(EntityLeaveWorldEvent event){
+        if(event.getEntity() instanceof ItemEntity item && !event.getWorld().isClientSide){
+            ItemSensor sensor = SENSORS.get(event.getWorld());
+            if(sensor != null)
+                sensor.remove(item);
+        }
+    }
+
+    @SubscribeEvent
+    public static void worldUnload(WorldEvent.Unload event){
+        if(event.getWorld() instanceof Level level)
+            SENSORS.remove(level);
+    }
+
+    @FunctionalInterface
+    private interface SectionConsumer {
+        void accept(long section);
+    }
+
+    public static class Subscription {
+        private final Level level;
+        private final AABB area;
+        private final Predicate<ItemEntity> filter;
+        private final List<ItemEntity> candidates = new ArrayList<>();
+        private boolean removed;
+
+        private Subscription(Level level, AABB area, Predicate<ItemEntity> filter){
+            this.level = level;
+            this.area = area;
+            this.filter = filter;
+        }
+
+        private void offer(ItemEntity item){
+            if(!removed && filter.test(item) && !candidates.contains(item))
+                candidates.add(item);
+        }
+
+        private void forEachSection(SectionConsumer consumer){
+            ItemSensor.forEachSection(area, consumer);
+        }
+
+        /**
+         * True when no matching item has entered the sections around the area, the cheap check for an idle owner.
+         */
+        public boolean isEmpty(){
+            return candidates.isEmpty();
+        }
+
+        /**
+         * Matching items currently inside the area.
+         */
+        public List<ItemEntity> getItems(){
+            if(level.isClientSide)
+                return level.getEntitiesOfClass(ItemEntity.class, area, filter);
+            if(candidates.isEmpty())
+                return Collections.emptyList();
+            List<ItemEntity> found = new ArrayList<>();
+            for(ItemEntity item : candidates){
+                if(!item.isRemoved() && !item.getItem().isEmpty() && item.getBoundingBox().intersects(area) && filter.test(item))
+                    found.add(item);
+            }
+            return found;
+        }
+
+        public void unsubscribe(){
+            if(removed)
+                return;
+            removed = true;
+            candidates.clear();
+            ItemSensor sensor = SENSORS.get(level);
+            if(sensor == null)
+                return;
+            forEachSection(section -> {
+                List<Subscription> subscriptions = sensor.subscriptionsBySection.get(section);
+                if(subscriptions == null)
+                    return;
+                subscriptions.remove(this);
+                if(subscriptions.isEmpty())
+                    sensor.subscriptionsBySection.remove(section);
+            });
+        }
+    }
+}
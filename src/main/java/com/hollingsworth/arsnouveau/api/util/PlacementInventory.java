@@ -0,0 +1,106 @@
+package com.hollingsworth.arsnouveau.api.util;
+
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.BlockItem;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.wrapper.PlayerMainInvWrapper;
+import net.minecraftforge.items.wrapper.RangedWrapper;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Index of the block items in a set of inventories, built once per cast for glyphs that place a block at every AOE position.
+ * Slots are grouped by item and kept in inventory order, so finding the next block to place looks at the few distinct
+ * items on hand instead of every slot. Emptied and refilled slots are kept current as {@link #extract} and
+ * {@link #restore} move items, which assumes nothing else touches the inventories while the view is in use.
+ */
+public class PlacementInventory {
+    private final Map<BlockItem, List<Slot>> slotsByItem = new LinkedHashMap<>();
+
+    public PlacementInventory(List<IItemHandler> handlers){
+        int ordinal = 0;
+        for(IItemHandler handler : handlers){
+            for(int i = 0; i < handler.getSlots(); i++){
+                ItemStack stack = handler.getStackInSlot(i);
+                if(stack.getItem() instanceof BlockItem item){
+                    slotsByItem.computeIfAbsent(item, k -> new ArrayList<>()).add(new Slot(handler, i, ordinal, item));
+                }
+                ordinal++;
+            }
+        }
+    }
+
+    /**
+     * The players hotbar, the slots block glyphs place from when cast by hand.
+     */
+    public static PlacementInventory hotbar(Player player){
+        return new PlacementInventory(Collections.singletonList(new RangedWrapper(new PlayerMainInvWrapper(player.getInventory()), 0, 9)));
+    }
+
+    /**
+     * The first slot after the given one, in inventory order, holding a block item accepted by the filter.
+     * Pass null to start from the beginning.
+     */
+    public @Nullable Slot next(Predicate<BlockItem> filter, @Nullable Slot after){
+        int afterOrdinal = after == null ? -1 : after.ordinal;
+        Slot best = null;
+        for(Map.Entry<BlockItem, List<Slot>> entry : slotsByItem.entrySet()){
+            if(entry.getValue().isEmpty() || !filter.test(entry.getKey()))
+                continue;
+            for(Slot slot : entry.getValue()){
+                if(slot.ordinal > afterOrdinal){
+                    if(best == null || slot.ordinal < best.ordinal)
+                        best = slot;
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Takes one item out of the slot, dropping the slot from the index once it runs out.
+     */
+    public ItemStack extract(Slot slot){
+        ItemStack extracted = slot.handler.extractItem(slot.slot, 1, false);
+        if(slot.handler.getStackInSlot(slot.slot).isEmpty())
+            slotsByItem.get(slot.item).remove(slot);
+        return extracted;
+    }
+
+    /**
+     * Puts an extracted stack back after a failed placement, returning what did not fit.
+     */
+    public ItemStack restore(Slot slot, ItemStack stack){
+        ItemStack remainder = slot.handler.insertItem(slot.slot, stack, false);
+        List<Slot> slots = slotsByItem.get(slot.item);
+        if(!slots.contains(slot) && !slot.handler.getStackInSlot(slot.slot).isEmpty()){
+            int index = 0;
+            while(index < slots.size() && slots.get(index).ordinal < slot.ordinal)
+                index++;
+            slots.add(index, slot);
+        }
+        return remainder;
+    }
+
+    public static class Slot {
+        public final IItemHandler handler;
+        public final int slot;
+        public final BlockItem item;
+        private final int ordinal;
+
+        private Slot(IItemHandler handler, int slot, int ordinal, BlockItem item){
+            this.handler = handler;
+            this.slot = slot;
+            this.ordinal = ordinal;
+            this.item = item;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.hollingsworth.arsnouveau.api.util;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraft.world.level.material.FluidState;
+
+import javax.annotation.Nullable;
+import java.util.function.Predicate;
+
+/**
+ * Immutable copy of the block states in a box of chunk sections, safe to read from worker threads.
+ * Block entities are never available. Reading outside the captured box throws instead of guessing, and callers should
+ * check {@link #isComplete()} since chunks that were not loaded are not captured.
+ */
+public class SectionSnapshot implements BlockGetter {
+    private static final BlockState AIR = Blocks.AIR.defaultBlockState();
+    private static final BlockState VOID_AIR = Blocks.VOID_AIR.defaultBlockState();
+
+    private final Long2ObjectMap<PalettedContainer<BlockState>> sections = new Long2ObjectOpenHashMap<>();
+    private final int minBuildHeight;
+    private final int height;
+    private final int minSecX, minSecY, minSecZ, maxSecX, maxSecY, maxSecZ;
+    private boolean complete = true;
+
+    /**
+     * Copies every non empty section touching the given block bounds that is already loaded. Must be called on the level's thread.
+     */
+    public SectionSnapshot(Level level, BlockPos min, BlockPos max){
+        this.minBuildHeight = level.getMinBuildHeight();
+        this.height = level.getHeight();
+        this.minSecX = SectionPos.blockToSectionCoord(min.getX());
+        this.minSecY = SectionPos.blockToSectionCoord(min.getY());
+        this.minSecZ = SectionPos.blockToSectionCoord(min.getZ());
+        this.maxSecX = SectionPos.blockToSectionCoord(max.getX());
+        this.maxSecY = SectionPos.blockToSectionCoord(max.getY());
+        this.maxSecZ = SectionPos.blockToSectionCoord(max.getZ());
+        int fromY = Math.max(minSecY, level.getMinSection());
+        int toY = Math.min(maxSecY, level.getMaxSection() - 1);
+        for(int x = minSecX; x <= maxSecX; x++){
+            for(int z = minSecZ; z <= maxSecZ; z++){
+                LevelChunk chunk = level.getChunkSource().getChunkNow(x, z);
+                if(chunk == null){
+                    complete = false;
+                    continue;
+                }
+                for(int y = fromY; y <= toY; y++){
+                    LevelChunkSection section = chunk.getSection(level.getSectionIndexFromSectionY(y));
+                    if(!section.hasOnlyAir())
+                        sections.put(SectionPos.asLong(x, y, z), section.getStates().copy());
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks the live sections first and only copies them if every chunk in the box is loaded and no section palette
+     * may hold a state matching exclude. Must be called on the level's thread.
+     * @return the snapshot, or null if it was not taken.
+     */
+    @Nullable
+    public static SectionSnapshot capture(Level level, BlockPos min, BlockPos max, Predicate<BlockState> exclude){
+        int minSecY = Math.max(SectionPos.blockToSectionCoord(min.getY()), level.getMinSection());
+        int maxSecY = Math.min(SectionPos.blockToSectionCoord(max.getY()), level.getMaxSection() - 1);
+        for(int x = SectionPos.blockToSectionCoord(min.getX()); x <= SectionPos.blockToSectionCoord(max.getX()); x++){
+            for(int z = SectionPos.blockToSectionCoord(min.getZ()); z <= SectionPos.blockToSectionCoord(max.getZ()); z++){
+                LevelChunk chunk = level.getChunkSource().getChunkNow(x, z);
+                if(chunk == null)
+                    return null;
+                for(int y = minSecY; y <= maxSecY; y++){
+                    LevelChunkSection section = chunk.getSection(level.getSectionIndexFromSectionY(y));
+                    if(!section.hasOnlyAir() && section.maybeHas(exclude))
+                        return null;
+                }
+            }
+        }
+        return new SectionSnapshot(level, min, max);
+    }
+
+    /**
+     * False if any chunk in the box was not loaded when the snapshot was taken.
+     */
+    public boolean isComplete(){
+        return complete;
+    }
+
+    public boolean contains(BlockPos pos){
+        int x = SectionPos.blockToSectionCoord(pos.getX());
+        int y = SectionPos.blockToSectionCoord(pos.getY());
+        int z = SectionPos.blockToSectionCoord(pos.getZ());
+        return x >= minSecX && x <= maxSecX && y >= minSecY && y <= maxSecY && z >= minSecZ && z <= maxSecZ;
+    }
+
+    /**
+     * Checks the palettes of the captured sections. May report states that are no longer placed, never misses one that is.
+     */
+    public boolean maybeHas(Predicate<BlockState> predicate){
+        for(PalettedContainer<BlockState> states : sections.values()){
+            if(states.maybeHas(predicate))
+                return true;
+        }
+        return false;
+    }
+
+    @Override
+    public BlockState getBlockState(BlockPos pos){
+        if(!contains(pos))
+            throw new IllegalArgumentException("Position " + pos + " is outside the snapshot");
+        if(isOutsideBuildHeight(pos))
+            return VOID_AIR;
+        PalettedContainer<BlockState> states = sections.get(SectionPos.asLong(SectionPos.blockToSectionCoord(pos.getX()),
+                SectionPos.blockToSectionCoord(pos.getY()), SectionPos.blockToSectionCoord(pos.getZ())));
+        if(states == null)
+            return AIR;
+        return states.get(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+    }
+
+    @Override
+    public FluidState getFluidState(BlockPos pos){
+        return getBlockState(pos).getFluidState();
+    }
+
+    @Nullable
+    @Override
+    public BlockEntity getBlockEntity(BlockPos pos){
+        return null;
+    }
+
+    @Override
+    public int getHeight(){
+        return height;
+    }
+
+    @Override
+    public int getMinBuildHeight(){
+        return minBuildHeight;
+    }
+}
@@ -35,6 +35,21 @@ public class SourceUtil {
         return result;
     }
 
+    /**
+     * Searches for the closest jar holding at least one portion of mana and takes as many whole portions as it holds,
+     * up to maxPortions. Returns the number of portions taken, 0 if no jar was found.
+     */
+    public static int takeSourcePortionsNearbyWithParticles(BlockPos pos, Level world, int range, int portion, int maxPortions){
+        Optional<BlockPos> loc = BlockPos.findClosestMatch(pos, range, range, (b) -> world.getBlockEntity(b) instanceof SourceJarTile jar && jar.getSource() >= portion);
+        if(!loc.isPresent())
+            return 0;
+        SourceJarTile tile = (SourceJarTile) world.getBlockEntity(loc.get());
+        int portions = Math.min(maxPortions, tile.getSource() / portion);
+        tile.removeSource(portions * portion);
+        world.addFreshEntity(new EntityFollowProjectile(world, loc.get(), pos));
+        return portions;
+    }
+
     /**
      * Searches for nearby mana jars that have enough mana.
      * Returns the position where the mana was taken, or null if none were found.
@@ -12,6 +12,7 @@ import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.item.Tier;
 import net.minecraft.world.item.Tiers;
+import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.BlockHitResult;
@@ -169,10 +170,14 @@ public class SpellUtil {
     }
 
     public static Set<BlockPos> DFSBlockstates(Level world, BlockPos start, int maxBlocks, Predicate<BlockState> isMatch){
+        return DFSBlockstates((BlockGetter) world, Collections.singleton(start), maxBlocks, isMatch);
+    }
+
+    public static Set<BlockPos> DFSBlockstates(BlockGetter world, BlockPos start, int maxBlocks, Predicate<BlockState> isMatch){
         return DFSBlockstates(world, Collections.singleton(start), maxBlocks, isMatch);
     }
 
-    private static Set<BlockPos> DFSBlockstates(Level world, Collection<BlockPos> start, int maxBlocks, Predicate<BlockState> isMatch) {
+    private static Set<BlockPos> DFSBlockstates(BlockGetter world, Collection<BlockPos> start, int maxBlocks, Predicate<BlockState> isMatch) {
         LinkedList<BlockPos> searchQueue = new LinkedList<>(start);
         HashSet<BlockPos> searched = new HashSet<>(start);
         HashSet<BlockPos> found = new HashSet<>();
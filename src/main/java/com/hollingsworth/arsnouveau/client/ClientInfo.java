@@ -3,7 +3,6 @@ package com.hollingsworth.arsnouveau.client;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class ClientInfo {
@@ -12,5 +11,8 @@ public class ClientInfo {
     public static CompoundTag persistentData = new CompoundTag();
     public static int ticksInGame = 0;
     public static float partialTicks = 0.0f;
-    public static List<BlockPos> scryingPositions = new ArrayList<>();
+    /**
+     * Replaced wholesale by {@link ScryScanner}, never mutated in place.
+     */
+    public static volatile List<BlockPos> scryingPositions = List.of();
 }
@@ -1,6 +1,7 @@
 package com.hollingsworth.arsnouveau.client;
 
 import com.hollingsworth.arsnouveau.ArsNouveau;
+import com.hollingsworth.arsnouveau.api.spell.GlyphTable;
 import com.hollingsworth.arsnouveau.api.spell.Spell;
 import com.hollingsworth.arsnouveau.common.block.ScribesBlock;
 import com.hollingsworth.arsnouveau.common.enchantment.EnchantmentRegistry;
@@ -12,6 +13,7 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.enchantment.EnchantmentHelper;
 import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
 import net.minecraftforge.event.entity.player.ItemTooltipEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
@@ -41,6 +43,11 @@ public class PlayerEvent {
         }
     }
 
+    @SubscribeEvent
+    public static void onLogout(final ClientPlayerNetworkEvent.LoggedOutEvent event) {
+        GlyphTable.setServer(null);
+    }
+
     @SubscribeEvent
     public static void onItem(final PlayerInteractEvent.RightClickItem event) {
         Player entity = event.getPlayer();
@@ -0,0 +1,197 @@
+package com.hollingsworth.arsnouveau.client;
+
+import com.hollingsworth.arsnouveau.api.ritual.IScryer;
+import com.hollingsworth.arsnouveau.common.util.Log;
+import net.minecraft.client.Minecraft;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.core.Vec3i;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraft.world.level.block.state.BlockState;
+
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Finds the blocks revealed by the current scryer without walking every position on the client thread.
+ * Sections whose palette holds no state the scryer could reveal are rejected outright. The rest are copied and
+ * scanned on a worker thread if the scryer is {@link IScryer#isThreadSafe() thread safe}, otherwise they are scanned
+ * in place on the client thread. Results are cached per section until a block in the section changes, so moving only
+ * rescans the sections entering range.
+ */
+public class ScryScanner {
+    /**
+     * Ticks before a cached section is scanned again even though no block change was seen in it.
+     */
+    public static final int SECTION_LIFETIME = 1200;
+
+    private static final ExecutorService WORKER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Ars Nouveau Scry Worker");
+        thread.setDaemon(true);
+        thread.setUncaughtExceptionHandler((t, throwable) -> Log.getLogger().error("Scry worker errored! ", throwable));
+        return thread;
+    });
+
+    // Only touched from the client thread
+    private static final Map<Long, SectionResult> SECTION_CACHE = new HashMap<>();
+    // Sections changed while the worker was scanning, their results are stale on arrival
+    private static final Set<Long> CHANGED_WHILE_PENDING = new HashSet<>();
+    private static CompoundTag cachedScryerTag;
+    private static Level cachedLevel;
+    private static CompletableFuture<Void> pending;
+
+    private ScryScanner(){}
+
+    public static void scan(Player player, IScryer scryer, CompoundTag scryerTag){
+        if(pending != null && !pending.isDone())
+            return;
+        Level level = player.level;
+        if(level != cachedLevel || !scryerTag.equals(cachedScryerTag)){
+            SECTION_CACHE.clear();
+            cachedLevel = level;
+            cachedScryerTag = scryerTag.copy();
+        }
+        long gameTime = level.getGameTime();
+        BlockPos center = player.blockPosition();
+        Vec3i size = scryer.getScryingSize();
+        int minSecX = SectionPos.blockToSectionCoord(center.getX() - size.getX());
+        int maxSecX = SectionPos.blockToSectionCoord(center.getX() + size.getX());
+        int minSecY = Math.max(level.getMinSection(), SectionPos.blockToSectionCoord(center.getY() - size.getY()));
+        int maxSecY = Math.min(level.getMaxSection() - 1, SectionPos.blockToSectionCoord(center.getY() + size.getY()));
+        int minSecZ = SectionPos.blockToSectionCoord(center.getZ() - size.getZ());
+        int maxSecZ = SectionPos.blockToSectionCoord(center.getZ() + size.getZ());
+
+        Set<Long> inRange = new HashSet<>();
+        List<SectionJob> jobs = new ArrayList<>();
+        for(int secX = minSecX; secX <= maxSecX; secX++){
+            for(int secZ = minSecZ; secZ <= maxSecZ; secZ++){
+                LevelChunk chunk = level.getChunkSource().getChunk(secX, secZ, false);
+                if(chunk == null)
+                    continue;
+                for(int secY = minSecY; secY <= maxSecY; secY++){
+                    long key = SectionPos.asLong(secX, secY, secZ);
+                    inRange.add(key);
+                    SectionResult cached = SECTION_CACHE.get(key);
+                    if(cached != null && gameTime - cached.scannedAt < SECTION_LIFETIME)
+                        continue;
+                    LevelChunkSection section = chunk.getSection(chunk.getSectionIndexFromSectionY(secY));
+                    if(section.hasOnlyAir() || !section.maybeHas(scryer::mayReveal)){
+                        SECTION_CACHE.put(key, new SectionResult(gameTime, List.of()));
+                        continue;
+                    }
+                    jobs.add(new SectionJob(key, scryer.isThreadSafe() ? section.getStates().copy() : section.getStates()));
+                }
+            }
+        }
+        SECTION_CACHE.keySet().retainAll(inRange);
+
+        if(jobs.isEmpty()){
+            publish(scryer, center);
+            return;
+        }
+        if(!scryer.isThreadSafe()){
+            scanSections(jobs, scryer, player).forEach((key, positions) -> SECTION_CACHE.put(key, new SectionResult(gameTime, positions)));
+            publish(scryer, center);
+            return;
+        }
+        CHANGED_WHILE_PENDING.clear();
+        // The worker never sees the player, only the positions and copied states captured above
+        pending = CompletableFuture.supplyAsync(() -> scanSections(jobs, scryer, null), WORKER)
+                .thenAcceptAsync(results -> {
+                    // The scryer or level may have changed while the worker was busy
+                    if(cachedLevel != level || !scryerTag.equals(cachedScryerTag))
+                        return;
+                    results.forEach((key, positions) -> {
+                        if(!CHANGED_WHILE_PENDING.contains(key))
+                            SECTION_CACHE.put(key, new SectionResult(gameTime, positions));
+                    });
+                    CHANGED_WHILE_PENDING.clear();
+                    publish(scryer, player.blockPosition());
+                }, Minecraft.getInstance());
+    }
+
+    /**
+     * Drops the cached result for the section holding pos, called on the client thread for every client block change.
+     */
+    public static void onBlockChanged(BlockPos pos){
+        if(SECTION_CACHE.isEmpty() && (pending == null || pending.isDone()))
+            return;
+        long key = SectionPos.asLong(pos);
+        SECTION_CACHE.remove(key);
+        if(pending != null && !pending.isDone())
+            CHANGED_WHILE_PENDING.add(key);
+    }
+
+    /**
+     * Drops the cached results for a chunk column that was (re)loaded on the client.
+     */
+    public static void onChunkLoaded(ChunkPos pos){
+        SECTION_CACHE.keySet().removeIf(key -> SectionPos.x(key) == pos.x && SectionPos.z(key) == pos.z);
+    }
+
+    private static Map<Long, List<BlockPos>> scanSections(List<SectionJob> jobs, IScryer scryer, @Nullable Player player){
+        Map<Long, List<BlockPos>> results = new HashMap<>();
+        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+        for(SectionJob job : jobs){
+            List<BlockPos> found = new ArrayList<>();
+            int originX = SectionPos.sectionToBlockCoord(SectionPos.x(job.key));
+            int originY = SectionPos.sectionToBlockCoord(SectionPos.y(job.key));
+            int originZ = SectionPos.sectionToBlockCoord(SectionPos.z(job.key));
+            for(int y = 0; y < 16; y++){
+                for(int z = 0; z < 16; z++){
+                    for(int x = 0; x < 16; x++){
+                        BlockState state = job.states.get(x, y, z);
+                        if(state.isAir())
+                            continue;
+                        mutable.set(originX + x, originY + y, originZ + z);
+                        if(scryer.shouldRevealBlock(state, mutable, player))
+                            found.add(mutable.immutable());
+                    }
+                }
+            }
+            results.put(job.key, found);
+        }
+        return results;
+    }
+
+    /**
+     * Collects the cached matches inside the scrying box, nearest first, and swaps them in as a single list.
+     */
+    private static void publish(IScryer scryer, BlockPos center){
+        Vec3i size = scryer.getScryingSize();
+        List<BlockPos> matches = new ArrayList<>();
+        for(SectionResult result : SECTION_CACHE.values()){
+            for(BlockPos pos : result.positions){
+                if(Math.abs(pos.getX() - center.getX()) <= size.getX()
+                        && Math.abs(pos.getY() - center.getY()) <= size.getY()
+                        && Math.abs(pos.getZ() - center.getZ()) <= size.getZ()){
+                    matches.add(pos);
+                }
+            }
+        }
+        matches.sort(Comparator.comparingInt(pos -> pos.distManhattan(center)));
+        int max = scryer.getScryMax();
+        ClientInfo.scryingPositions = List.copyOf(matches.size() > max ? matches.subList(0, max) : matches);
+    }
+
+    public static void clear(){
+        SECTION_CACHE.clear();
+        CHANGED_WHILE_PENDING.clear();
+        cachedScryerTag = null;
+        cachedLevel = null;
+        ClientInfo.scryingPositions = List.of();
+    }
+
+    private record SectionResult(long scannedAt, List<BlockPos> positions){}
+
+    private record SectionJob(long key, PalettedContainer<BlockState> states){}
+}
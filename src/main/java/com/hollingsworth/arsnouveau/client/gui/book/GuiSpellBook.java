@@ -419,11 +419,12 @@ public class GuiSpellBook extends BaseBook {
     public void onCreateClick(Button button) {
         validate();
         if (validationErrors.isEmpty()) {
-            List<String> ids = new ArrayList<>();
+            List<AbstractSpellPart> recipe = new ArrayList<>();
             for (CraftingButton slot : craftingCells) {
-                ids.add(slot.spellTag);
+                AbstractSpellPart part = api.getSpellpartMap().get(slot.spellTag);
+                if (part != null) recipe.add(part);
             }
-            Networking.INSTANCE.sendToServer(new PacketUpdateCaster(ids.toString(), this.selected_cast_slot, this.spell_name.getValue()));
+            Networking.INSTANCE.sendToServer(new PacketUpdateCaster(new Spell(recipe), this.selected_cast_slot, this.spell_name.getValue()));
         }
     }
 
@@ -468,7 +469,7 @@ public class GuiSpellBook extends BaseBook {
      * Validates the current spell as well as the potential for adding each glyph.
      */
     private void validate() {
-        List<AbstractSpellPart> recipe = new LinkedList<>();
+        List<AbstractSpellPart> recipe = new ArrayList<>();
         int firstBlankSlot = -1;
 
         // Reset the crafting slots and build the recipe to validate
@@ -501,28 +502,14 @@ public class GuiSpellBook extends BaseBook {
         if (firstBlankSlot >= 0) {
             recipe = new ArrayList<>(recipe.subList(0, firstBlankSlot));
         }
+        // Validate the recipe once, then simulate adding each glyph from that checkpoint
+        ISpellValidator.Checkpoint checkpoint = spellValidator.checkpoint(recipe);
         for(GlyphButton button : glyphButtons){
-            validateGlyphButton(recipe, button);
+            button.validationErrors.clear();
+            button.validationErrors.addAll(checkpoint.validateNext(api.getSpellpartMap().get(button.abstractSpellPart.getId())));
         }
     }
 
-    private void validateGlyphButton(List<AbstractSpellPart> recipe, GlyphButton glyphButton) {
-        // Start from a clean slate
-        glyphButton.validationErrors.clear();
-
-        // Simulate adding the glyph to the current spell
-        recipe.add(api.getSpellpartMap().get(glyphButton.abstractSpellPart.getId()));
-
-        // Filter the errors to ones referring to the simulated glyph
-        glyphButton.validationErrors.addAll(
-                spellValidator.validate(recipe).stream()
-                        .filter(ve -> ve.getPosition() >= recipe.size() - 1).collect(Collectors.toList())
-        );
-
-        // Remove the simulated glyph to make room for the next one
-        recipe.remove(recipe.size() - 1);
-    }
-
     /**
      * Draws the screen and all the components in it.
      */
@@ -4,6 +4,7 @@ package com.hollingsworth.arsnouveau.client.keybindings;
 import com.hollingsworth.arsnouveau.ArsNouveau;
 import com.hollingsworth.arsnouveau.api.item.ISpellHotkeyListener;
 import com.hollingsworth.arsnouveau.api.spell.ISpellCaster;
+import com.hollingsworth.arsnouveau.api.spell.Spell;
 import com.hollingsworth.arsnouveau.api.util.CasterUtil;
 import com.hollingsworth.arsnouveau.api.util.StackUtil;
 import com.hollingsworth.arsnouveau.client.gui.RadialMenu.GuiRadialMenu;
@@ -90,7 +91,7 @@ public class KeyHandler {
 
     public static void sendUpdatePacket(ItemStack stack, int newMode){
         ISpellCaster caster = CasterUtil.getCaster(stack);
-        String recipe = caster.getSpell(newMode).serialize();
+        Spell recipe = caster.getSpell(newMode);
         String name = caster.getSpellName(newMode);
         Networking.INSTANCE.sendToServer(new PacketUpdateCaster(recipe, newMode, name));
     }
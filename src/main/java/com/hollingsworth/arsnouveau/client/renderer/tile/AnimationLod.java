@@ -0,0 +1,61 @@
+package com.hollingsworth.arsnouveau.client.renderer.tile;
+
+import com.hollingsworth.arsnouveau.ArsNouveau;
+import com.hollingsworth.arsnouveau.api.client.ISharedIdleAnimation;
+import com.hollingsworth.arsnouveau.setup.Config;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.client.Minecraft;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+/**
+ * Level of detail for block entity animations. GeckoLib poses the bones of a model shared by every block entity using it,
+ * so skipping the animation step leaves a block entity drawn in the last pose evaluated for that model, not its own.
+ * Only {@link ISharedIdleAnimation} block entities, whose pose is the same for every instance, are ever skipped.
+ * Block entities outside the frustum are never rendered by Forge and so are already frozen.
+ */
+@Mod.EventBusSubscriber(modid = ArsNouveau.MODID, value = Dist.CLIENT)
+public class AnimationLod {
+    private static final Object2IntOpenHashMap<ResourceLocation> SHARED_FRAME = new Object2IntOpenHashMap<>();
+    private static int frame;
+
+    static {
+        SHARED_FRAME.defaultReturnValue(-1);
+    }
+
+    /**
+     * @param model the model location, block entities sharing it share an idle pose.
+     * @return if the animation of this block entity should be evaluated this frame.
+     */
+    public static boolean shouldAnimate(Object animatable, ResourceLocation model){
+        // Stateful animations would show the pose of whichever block entity last posed the shared bones
+        if(!(animatable instanceof BlockEntity tile) || !(animatable instanceof ISharedIdleAnimation) || tile.getLevel() == null)
+            return true;
+        Vec3 camera = Minecraft.getInstance().gameRenderer.getMainCamera().getPosition();
+        double distanceSqr = tile.getBlockPos().distToCenterSqr(camera);
+        int freezeDistance = Config.ANIMATION_FREEZE_DISTANCE.get();
+        if(distanceSqr > (double) freezeDistance * freezeDistance)
+            return false;
+        if(SHARED_FRAME.getInt(model) == frame)
+            return false;
+        int fullDistance = Config.ANIMATION_FULL_DISTANCE.get();
+        if(distanceSqr > (double) fullDistance * fullDistance){
+            // Stagger by position so distant block entities do not all update on the same frame
+            if(Math.floorMod(frame + tile.getBlockPos().hashCode(), Config.ANIMATION_REDUCED_RATE.get()) != 0)
+                return false;
+        }
+        SHARED_FRAME.put(model, frame);
+        return true;
+    }
+
+    @SubscribeEvent
+    public static void renderTick(TickEvent.RenderTickEvent event){
+        if(event.phase == TickEvent.Phase.START)
+            frame++;
+    }
+}
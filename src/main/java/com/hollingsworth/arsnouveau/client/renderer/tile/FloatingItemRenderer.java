@@ -0,0 +1,76 @@
+package com.hollingsworth.arsnouveau.client.renderer.tile;
+
+import com.hollingsworth.arsnouveau.setup.Config;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.math.Vector3f;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.block.model.ItemOverrides;
+import net.minecraft.client.renderer.block.model.ItemTransforms;
+import net.minecraft.client.renderer.entity.ItemRenderer;
+import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Draws items displayed by block entities straight from their baked model, without a client ItemEntity per block entity.
+ * Floating items bob and spin like dropped items, on a clock shared by every display.
+ */
+public class FloatingItemRenderer {
+    // Base models keyed by stack identity, a block entity gets a new stack whenever its contents change
+    private static final Map<ItemStack, BakedModel> MODEL_CACHE = new WeakHashMap<>();
+    private static BakedModel missingModel;
+
+    /**
+     * Renders the stack bobbing and spinning with its base at x, y, z relative to the block entity.
+     */
+    public static void renderFloating(BlockEntity tile, ItemStack stack, float partialTicks, double x, double y, double z, PoseStack poseStack, MultiBufferSource buffer, int light){
+        if(stack.isEmpty() || tile.getLevel() == null || isCulled(tile))
+            return;
+        BakedModel model = getModel(tile, stack);
+        float age = tile.getLevel().getGameTime() + partialTicks;
+        float bob = Mth.sin(age / 10.0F) * 0.1F + 0.1F;
+        float groundScale = model.getTransforms().getTransform(ItemTransforms.TransformType.GROUND).scale.y();
+        poseStack.pushPose();
+        poseStack.translate(x, y + bob + 0.25F * groundScale, z);
+        poseStack.mulPose(Vector3f.YP.rotation(age / 20.0F));
+        Minecraft.getInstance().getItemRenderer().render(stack, ItemTransforms.TransformType.GROUND, false, poseStack, buffer, light, OverlayTexture.NO_OVERLAY, model);
+        poseStack.popPose();
+    }
+
+    /**
+     * Renders the stack in its ground transform at the current pose, without any motion.
+     */
+    public static void renderStill(BlockEntity tile, ItemStack stack, PoseStack poseStack, MultiBufferSource buffer, int light){
+        if(stack.isEmpty() || tile.getLevel() == null)
+            return;
+        Minecraft.getInstance().getItemRenderer().render(stack, ItemTransforms.TransformType.GROUND, false, poseStack, buffer, light, OverlayTexture.NO_OVERLAY, getModel(tile, stack));
+    }
+
+    public static boolean isCulled(BlockEntity tile){
+        int distance = Config.FLOATING_ITEM_DISTANCE.get();
+        if(distance <= 0)
+            return false;
+        return tile.getBlockPos().distToCenterSqr(Minecraft.getInstance().gameRenderer.getMainCamera().getPosition()) > (double) distance * distance;
+    }
+
+    private static BakedModel getModel(BlockEntity tile, ItemStack stack){
+        // A resource reload bakes a new missing model, drop everything baked before it
+        BakedModel currentMissing = Minecraft.getInstance().getModelManager().getMissingModel();
+        if(currentMissing != missingModel){
+            MODEL_CACHE.clear();
+            missingModel = currentMissing;
+        }
+        ItemRenderer itemRenderer = Minecraft.getInstance().getItemRenderer();
+        BakedModel base = MODEL_CACHE.computeIfAbsent(stack, s -> itemRenderer.getItemModelShaper().getItemModel(s));
+        // Overrides can depend on NBT, time or the level (clocks, compasses, crossbows), so they are resolved every frame
+        if(base.getOverrides() == ItemOverrides.EMPTY)
+            return base;
+        return itemRenderer.getModel(stack, tile.getLevel(), null, (int) tile.getBlockPos().asLong());
+    }
+}
@@ -3,8 +3,11 @@ package com.hollingsworth.arsnouveau.client.renderer.tile;
 import com.hollingsworth.arsnouveau.ArsNouveau;
 import net.minecraft.resources.ResourceLocation;
 import software.bernie.geckolib3.core.IAnimatable;
+import software.bernie.geckolib3.core.event.predicate.AnimationEvent;
 import software.bernie.geckolib3.model.AnimatedGeoModel;
 
+import javax.annotation.Nullable;
+
 public class GenericModel<T extends IAnimatable> extends AnimatedGeoModel<T> {
     public String path;
 
@@ -38,4 +41,10 @@ public class GenericModel<T extends IAnimatable> extends AnimatedGeoModel<T> {
     public ResourceLocation getAnimationFileLocation(T iAnimatable) {
         return animationLoc;
     }
-}
\ No newline at end of file
+
+    @Override
+    public void setLivingAnimations(T animatable, Integer uniqueID, @Nullable AnimationEvent customPredicate) {
+        if(AnimationLod.shouldAnimate(animatable, getModelLocation(animatable)))
+            super.setLivingAnimations(animatable, uniqueID, customPredicate);
+    }
+}
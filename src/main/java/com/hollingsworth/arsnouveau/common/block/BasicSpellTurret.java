@@ -3,7 +3,6 @@ package com.hollingsworth.arsnouveau.common.block;
 import com.hollingsworth.arsnouveau.api.ANFakePlayer;
 import com.hollingsworth.arsnouveau.api.spell.*;
 import com.hollingsworth.arsnouveau.api.util.CasterUtil;
-import com.hollingsworth.arsnouveau.api.util.SourceUtil;
 import com.hollingsworth.arsnouveau.common.block.tile.BasicSpellTurretTile;
 import com.hollingsworth.arsnouveau.common.entity.EntityProjectileSpell;
 import com.hollingsworth.arsnouveau.common.items.SpellParchment;
@@ -102,11 +101,13 @@ public class BasicSpellTurret extends TickableModBlock implements SimpleWaterlog
 
     public void shootSpell(ServerLevel world, BlockPos pos ) {
         if (! (world.getBlockEntity(pos) instanceof BasicSpellTurretTile tile)) return;
-        ISpellCaster caster = tile.getSpellCaster();
-        if(caster.getSpell().isEmpty())
+        // Turrets without a castable spell are skipped before any source is taken
+        ITurretBehavior behavior = tile.getTurretBehavior();
+        if(behavior == null)
             return;
+        ISpellCaster caster = tile.getSpellCaster();
         int manaCost = tile.getManaCost();
-        if(manaCost > 0 && SourceUtil.takeSourceNearbyWithParticles(pos, world, 10, manaCost) == null)
+        if(manaCost > 0 && !tile.takeSource(manaCost))
             return;
         Networking.sendToNearby(world, pos, new PacketOneShotAnimation(pos));
         Position iposition = getDispensePosition(new BlockSourceImpl(world, pos));
@@ -114,15 +115,15 @@ public class BasicSpellTurret extends TickableModBlock implements SimpleWaterlog
         FakePlayer fakePlayer = ANFakePlayer.getPlayer(world);
         fakePlayer.setPos(pos.getX(), pos.getY(), pos.getZ());
         EntitySpellResolver resolver = new EntitySpellResolver(new SpellContext(caster, fakePlayer)
-                .withCastingTile(world.getBlockEntity(pos)).withType(SpellContext.CasterType.TURRET));
-        if(resolver.castType != null && TURRET_BEHAVIOR_MAP.containsKey(resolver.castType)) {
-            TURRET_BEHAVIOR_MAP.get(resolver.castType).onCast(resolver, tile, world, pos, fakePlayer, iposition, direction);
-            caster.playSound(pos, world, null, caster.getCurrentSound(), SoundSource.BLOCKS);
-        }
+                .withCastingTile(tile).withType(SpellContext.CasterType.TURRET));
+        behavior.onCast(resolver, tile, world, pos, fakePlayer, iposition, direction);
+        caster.playSound(pos, world, null, caster.getCurrentSound(), SoundSource.BLOCKS);
     }
 
 
     public void neighborChanged(BlockState state, Level worldIn, BlockPos pos, Block blockIn, BlockPos fromPos, boolean isMoving) {
+        if(worldIn.getBlockEntity(pos) instanceof BasicSpellTurretTile tile)
+            tile.invalidateSource();
         boolean neighborSignal = worldIn.hasNeighborSignal(pos) || worldIn.hasNeighborSignal(pos.above());
         boolean isTriggered = state.getValue(TRIGGERED);
         if (neighborSignal && !isTriggered) {
@@ -1,5 +1,6 @@
 package com.hollingsworth.arsnouveau.common.block;
 
+import com.hollingsworth.arsnouveau.common.util.TickProfiler;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.EntityBlock;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -15,7 +16,11 @@ public interface ITickableBlock extends EntityBlock
     @Override
     default  <T extends BlockEntity> BlockEntityTicker<T> getTicker(final Level level, final BlockState state, final BlockEntityType<T> type)
     {
-        return createTickerHelper(type, type, (l, pos, s, te) -> ((ITickable) te).tick(l, s, pos));
+        return createTickerHelper(type, type, (l, pos, s, te) -> {
+            long start = TickProfiler.start(l);
+            ((ITickable) te).tick(l, s, pos);
+            TickProfiler.record(TickProfiler.Category.BLOCK_ENTITY, type, pos, start);
+        });
     }
 
     @Nullable
@@ -20,6 +20,7 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.EntityBlock;
 import net.minecraft.world.level.block.RenderShape;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockBehaviour;
@@ -35,7 +36,7 @@ import javax.annotation.Nullable;
 import java.util.Random;
 
 @SuppressWarnings("deprecation")
-public class RuneBlock extends TickableModBlock {
+public class RuneBlock extends ModBlock implements EntityBlock {
 
     public static VoxelShape shape =  Block.box(0.0D, 0.0D, 0.0D, 16D, 0.5D, 16D);
     public RuneBlock() {
@@ -83,9 +84,12 @@ public class RuneBlock extends TickableModBlock {
     public void tick(BlockState state, ServerLevel worldIn, BlockPos pos, Random rand) {
         super.tick(state, worldIn, pos, rand);
 
-        if(worldIn.getBlockEntity(pos) instanceof RuneTile rune && rune.touchedEntity != null) {
-            rune.castSpell(rune.touchedEntity);
-            rune.touchedEntity = null;
+        if(worldIn.getBlockEntity(pos) instanceof RuneTile rune) {
+            if(rune.touchedEntity != null) {
+                rune.castSpell(rune.touchedEntity);
+                rune.touchedEntity = null;
+            }
+            rune.wakeUp();
         }
     }
 
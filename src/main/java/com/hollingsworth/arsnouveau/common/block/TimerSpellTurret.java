@@ -62,6 +62,7 @@ public class TimerSpellTurret extends BasicSpellTurret{
     @Override
     public void neighborChanged(BlockState state, Level world, BlockPos pos, Block blockIn, BlockPos fromPos, boolean isMoving) {
         if(!world.isClientSide() && world.getBlockEntity(pos) instanceof TimerSpellTurretTile tile){
+            tile.invalidateSource();
             tile.isOff = world.hasNeighborSignal(pos);
             tile.update();
         }
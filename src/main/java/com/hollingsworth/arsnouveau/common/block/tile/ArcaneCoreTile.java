@@ -1,5 +1,6 @@
 package com.hollingsworth.arsnouveau.common.block.tile;
 
+import com.hollingsworth.arsnouveau.api.client.ISharedIdleAnimation;
 import com.hollingsworth.arsnouveau.setup.BlockRegistry;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.block.state.BlockState;
@@ -11,7 +12,7 @@ import software.bernie.geckolib3.core.event.predicate.AnimationEvent;
 import software.bernie.geckolib3.core.manager.AnimationData;
 import software.bernie.geckolib3.core.manager.AnimationFactory;
 
-public class ArcaneCoreTile extends ModdedTile implements IAnimatable {
+public class ArcaneCoreTile extends ModdedTile implements IAnimatable, ISharedIdleAnimation {
 
     public ArcaneCoreTile(BlockPos pos, BlockState state) {
         super(BlockRegistry.ARCANE_CORE_TILE, pos, state);
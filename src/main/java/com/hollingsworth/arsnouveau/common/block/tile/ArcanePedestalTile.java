@@ -5,7 +5,6 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.Container;
-import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.state.BlockState;
@@ -20,8 +19,6 @@ import javax.annotation.Nullable;
 
 public class ArcanePedestalTile extends AnimatedTile implements Container {
     private final LazyOptional<IItemHandler> itemHandler = LazyOptional.of(() -> new InvWrapper(this));
-    public float frames;
-    public ItemEntity entity;
     private ItemStack stack = ItemStack.EMPTY;
 
     public ArcanePedestalTile(BlockPos pos, BlockState state){
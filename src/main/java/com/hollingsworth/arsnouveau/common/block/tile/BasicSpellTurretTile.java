@@ -3,7 +3,10 @@ package com.hollingsworth.arsnouveau.common.block.tile;
 import com.hollingsworth.arsnouveau.api.client.ITooltipProvider;
 import com.hollingsworth.arsnouveau.api.spell.*;
 import com.hollingsworth.arsnouveau.api.util.BlockUtil;
+import com.hollingsworth.arsnouveau.api.util.SourceUtil;
+import com.hollingsworth.arsnouveau.common.block.BasicSpellTurret;
 import com.hollingsworth.arsnouveau.common.block.ITickable;
+import com.hollingsworth.arsnouveau.common.entity.EntityFollowProjectile;
 import com.hollingsworth.arsnouveau.setup.BlockRegistry;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
@@ -24,13 +27,27 @@ import software.bernie.geckolib3.core.manager.AnimationData;
 import software.bernie.geckolib3.core.manager.AnimationFactory;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.List;
 
 public class BasicSpellTurretTile extends ModdedTile implements IPickupResponder, IPlaceBlockResponder, ITooltipProvider, IAnimatable, IAnimationListener, ITickable, ISpellCasterProvider {
 
+    /**
+     * Source follow particles are only spawned this often while a turret keeps drawing from the same jar.
+     */
+    public static final int SOURCE_PARTICLE_INTERVAL = 10;
+
     boolean playRecoil;
     public TurretSpellCaster spellCaster = new TurretSpellCaster(new CompoundTag());
 
+    // Firing plan, rebuilt whenever the caster holds a different spell
+    private Spell plannedSpell;
+    private @Nullable ITurretBehavior turretBehavior;
+    private int manaCost;
+    // Jar the last shot drew from, dropped when it runs dry or a neighbor changes
+    private @Nullable BlockPos sourcePos;
+    private long lastSourceParticle;
+
     public BasicSpellTurretTile(BlockEntityType<?> p_i48289_1_, BlockPos pos, BlockState state) {
         super(p_i48289_1_, pos, state);
     }
@@ -40,7 +57,49 @@ public class BasicSpellTurretTile extends ModdedTile implements IPickupResponder
     }
 
     public int getManaCost(){
-        return this.spellCaster.getSpell().getCastingCost();
+        updatePlan();
+        return manaCost;
+    }
+
+    /**
+     * @return the behavior for the current spell's cast method, or null if the turret cannot cast it.
+     */
+    public @Nullable ITurretBehavior getTurretBehavior(){
+        updatePlan();
+        return turretBehavior;
+    }
+
+    private void updatePlan(){
+        Spell spell = spellCaster.getSpell();
+        if(spell != plannedSpell){
+            plannedSpell = spell;
+            turretBehavior = spell.isEmpty() ? null : BasicSpellTurret.TURRET_BEHAVIOR_MAP.get(spell.getCastMethod());
+            manaCost = spell.getCastingCost();
+        }
+    }
+
+    /**
+     * Takes source for a shot, trying the jar used by the previous shot before searching nearby.
+     */
+    public boolean takeSource(int cost){
+        if(sourcePos != null && level.getBlockEntity(sourcePos) instanceof SourceJarTile jar && jar.getSource() >= cost){
+            jar.removeSource(cost);
+        }else{
+            sourcePos = SourceUtil.takeSourceNearby(worldPosition, level, 10, cost);
+            if(sourcePos == null)
+                return false;
+            lastSourceParticle = 0;
+        }
+        long gameTime = level.getGameTime();
+        if(lastSourceParticle == 0 || gameTime - lastSourceParticle >= SOURCE_PARTICLE_INTERVAL){
+            level.addFreshEntity(new EntityFollowProjectile(level, sourcePos, worldPosition));
+            lastSourceParticle = gameTime;
+        }
+        return true;
+    }
+
+    public void invalidateSource(){
+        this.sourcePos = null;
     }
 
     @Override
@@ -15,7 +15,6 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.phys.AABB;
 
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -35,7 +34,7 @@ public class MycelialSourcelinkTile extends SourcelinkTile{
         if(level.isClientSide)
             return;
         if(level.getGameTime() % 40 == 0 && this.canAcceptSource()){
-            for(ItemEntity i : level.getEntitiesOfClass(ItemEntity.class, new AABB(worldPosition).inflate(1.0))){
+            for(ItemEntity i : getNearbyFuel()){
                 if(i.getItem().getItem().isEdible()){
                    int source = getSourceValue(i.getItem());
                     this.addSource(source);
@@ -62,6 +61,11 @@ public class MycelialSourcelinkTile extends SourcelinkTile{
         }
     }
 
+    @Override
+    public boolean isFuel(ItemStack stack) {
+        return stack.getItem().isEdible();
+    }
+
     public int getSourceValue(ItemStack i){
         if(i.getItem().isEdible()){
             int mana = 0;
@@ -4,6 +4,7 @@ import com.hollingsworth.arsnouveau.api.client.ITooltipProvider;
 import com.hollingsworth.arsnouveau.api.item.IWandable;
 import com.hollingsworth.arsnouveau.common.block.ITickable;
 import com.hollingsworth.arsnouveau.common.block.SourceJar;
+import com.hollingsworth.arsnouveau.common.util.PotionMixKey;
 import com.hollingsworth.arsnouveau.setup.BlockRegistry;
 import net.minecraft.Util;
 import net.minecraft.core.BlockPos;
@@ -25,7 +26,6 @@ import net.minecraft.world.level.block.state.BlockState;
 
 import javax.annotation.Nonnull;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 
 public class PotionJarTile extends ModdedTile implements ITickable, ITooltipProvider, IWandable {
@@ -34,6 +34,8 @@ public class PotionJarTile extends ModdedTile implements ITickable, ITooltipProv
     private Potion potion = Potions.EMPTY;
     private boolean isLocked;
     private List<MobEffectInstance> customEffects = new ArrayList<>();
+    // Identity of the full effect list, cleared whenever the potion or custom effects change
+    private PotionMixKey mixKey;
 
     public PotionJarTile(BlockEntityType<?> tileEntityTypeIn, BlockPos pos, BlockState state) {
         super(tileEntityTypeIn, pos, state);
@@ -61,6 +63,7 @@ public class PotionJarTile extends ModdedTile implements ITickable, ITooltipProv
             if(this.getAmount() <= 0 && this.potion != Potions.EMPTY && !this.isLocked) {
                 this.potion = Potions.EMPTY;
                 this.customEffects = new ArrayList<>();
+                this.mixKey = null;
                 level.setBlock(worldPosition, state.setValue(SourceJar.fill, fillState),3);
                 setChanged();
             }
@@ -91,6 +94,7 @@ public class PotionJarTile extends ModdedTile implements ITickable, ITooltipProv
             if (!potion.getEffects().contains(e))
                 customEffects.add(e);
         }
+        mixKey = null;
         setChanged();
     }
 
@@ -100,6 +104,7 @@ public class PotionJarTile extends ModdedTile implements ITickable, ITooltipProv
 
     private void setPotion(Potion potion){
         this.potion = potion == null ? Potions.EMPTY : potion;
+        this.mixKey = null;
         updateBlock();
     }
 
@@ -127,8 +132,10 @@ public class PotionJarTile extends ModdedTile implements ITickable, ITooltipProv
 
     public void addAmount(int fill){
         setAmount(Math.min(getMaxFill(), getAmount() + fill));
-        if(getAmount() <= 0 && !this.isLocked)
+        if(getAmount() <= 0 && !this.isLocked) {
             this.potion = Potions.EMPTY;
+            this.mixKey = null;
+        }
         updateBlock();
     }
 
@@ -149,11 +156,13 @@ public class PotionJarTile extends ModdedTile implements ITickable, ITooltipProv
 
     public void appendEffect(List<MobEffectInstance> effects){
         this.customEffects.addAll(effects);
+        this.mixKey = null;
     }
 
     public void setCustomEffects(List<MobEffectInstance> effects){
         this.customEffects.clear();
         this.customEffects.addAll(effects);
+        this.mixKey = null;
     }
 
     public List<MobEffectInstance> getFullEffects(){
@@ -166,17 +175,23 @@ public class PotionJarTile extends ModdedTile implements ITickable, ITooltipProv
         return new ArrayList<>(customEffects);
     }
 
+    /**
+     * The order independent identity of this jar's full effect list, computed once per change of contents.
+     */
+    public PotionMixKey getMixKey(){
+        if(mixKey == null)
+            mixKey = PotionMixKey.of(getFullEffects());
+        return mixKey;
+    }
+
     //If the effect list of jars or flasks are equal
-    public boolean isMixEqual(List<MobEffectInstance> effects){
+    public boolean isMixEqual(PotionMixKey key){
+        return getMixKey().equals(key);
+    }
 
-        List<MobEffectInstance> thisEffects = new ArrayList<>(customEffects);
-        thisEffects.addAll(potion.getEffects());
-        effects = new ArrayList<>(effects);
-        if(thisEffects.size() != effects.size())
-            return false;
-        effects.sort(Comparator.comparing(MobEffectInstance::toString));
-        thisEffects.sort(Comparator.comparing(MobEffectInstance::toString));
-        return thisEffects.equals(effects);
+    //If the effect list of jars or flasks are equal
+    public boolean isMixEqual(List<MobEffectInstance> effects){
+        return isMixEqual(PotionMixKey.of(effects));
     }
 
     //If the effect list of jars or flasks are equal
@@ -184,15 +199,16 @@ public class PotionJarTile extends ModdedTile implements ITickable, ITooltipProv
         if(potion.getEffects().isEmpty() && this.potion.getEffects().isEmpty()){
             return potion == this.potion;
         }
-        return isMixEqual(potion.getEffects());
+        return isMixEqual(PotionMixKey.of(potion));
     }
 
     public boolean isMixEqual(ItemStack stack){
+        List<MobEffectInstance> effects = PotionUtils.getMobEffects(stack);
         // Checking for same effect sets is not sufficient for potions that have no effects, like water and awkward.
-        if(PotionUtils.getMobEffects(stack).isEmpty() && potion.getEffects().isEmpty()){
+        if(effects.isEmpty() && potion.getEffects().isEmpty()){
             return PotionUtils.getPotion(stack) == potion;
         }
-        return isMixEqual(PotionUtils.getMobEffects(stack));
+        return isMixEqual(PotionMixKey.of(effects));
     }
 
     @Override
@@ -202,6 +218,7 @@ public class PotionJarTile extends ModdedTile implements ITickable, ITooltipProv
         this.potion = PotionUtils.getPotion(tag);
         this.customEffects = new ArrayList<>();
         this.customEffects.addAll(PotionUtils.getCustomEffects(tag));
+        this.mixKey = null;
         this.isLocked = tag.getBoolean("locked");
     }
 
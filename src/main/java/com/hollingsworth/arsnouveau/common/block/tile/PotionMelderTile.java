@@ -7,6 +7,7 @@ import com.hollingsworth.arsnouveau.client.particle.ParticleColor;
 import com.hollingsworth.arsnouveau.client.particle.ParticleUtil;
 import com.hollingsworth.arsnouveau.common.block.ITickable;
 import com.hollingsworth.arsnouveau.common.entity.EntityFlyingItem;
+import com.hollingsworth.arsnouveau.common.util.PotionMixKey;
 import com.hollingsworth.arsnouveau.setup.BlockRegistry;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -33,6 +34,11 @@ public class PotionMelderTile extends ModdedTile implements IAnimatable, ITickab
     int timeMixing;
     boolean isMixing;
     boolean hasMana;
+    // Last combined result and the input mixes it was built from
+    private List<MobEffectInstance> combinedResult;
+    private PotionMixKey combinedKey;
+    private PotionMixKey inputKey1;
+    private PotionMixKey inputKey2;
 
     AnimationFactory manager = new AnimationFactory(this);
 
@@ -85,8 +91,8 @@ public class PotionMelderTile extends ModdedTile implements IAnimatable, ITickab
             setChanged();
             return;
         }
-        List<MobEffectInstance> combined = getCombinedResult(tile1, tile2);
-        if(!(combJar.isMixEqual(combined) && combJar.getMaxFill() - combJar.getCurrentFill() >= 100) && combJar.getAmount() != 0){
+        List<MobEffectInstance> combined = getCachedCombinedResult(tile1, tile2);
+        if(!(combJar.isMixEqual(combinedKey) && combJar.getMaxFill() - combJar.getCurrentFill() >= 100) && combJar.getAmount() != 0){
             isMixing = false;
             timeMixing = 0;
             setChanged();
@@ -174,7 +180,7 @@ public class PotionMelderTile extends ModdedTile implements IAnimatable, ITickab
                 tile2.addAmount(-300);
                 hasMana = false;
                 updateBlock();
-            }else if(combJar.isMixEqual(combined) && combJar.getMaxFill() - combJar.getCurrentFill() >= 100){
+            }else if(combJar.isMixEqual(combinedKey) && combJar.getMaxFill() - combJar.getCurrentFill() >= 100){
                 combJar.addAmount(100);
                 tile1.addAmount(-300);
                 tile2.addAmount(-300);
@@ -193,6 +199,21 @@ public class PotionMelderTile extends ModdedTile implements IAnimatable, ITickab
         return new ArrayList<>(set);
     }
 
+    /**
+     * Same as getCombinedResult, recomputed only when the contents of either input jar change.
+     */
+    private List<MobEffectInstance> getCachedCombinedResult(PotionJarTile jar1, PotionJarTile jar2){
+        PotionMixKey key1 = jar1.getMixKey();
+        PotionMixKey key2 = jar2.getMixKey();
+        if(combinedResult == null || !((key1.equals(inputKey1) && key2.equals(inputKey2)) || (key1.equals(inputKey2) && key2.equals(inputKey1)))){
+            combinedResult = getCombinedResult(jar1, jar2);
+            combinedKey = PotionMixKey.of(combinedResult);
+            inputKey1 = key1;
+            inputKey2 = key2;
+        }
+        return combinedResult;
+    }
+
     public List<MobEffectInstance> getCombinedResult(PotionJarTile jar1, PotionJarTile jar2){
         Set<MobEffectInstance> set = new HashSet<>();
         set.addAll(jar1.getFullEffects());
@@ -6,12 +6,14 @@ import com.hollingsworth.arsnouveau.api.ritual.AbstractRitual;
 import com.hollingsworth.arsnouveau.api.spell.ILightable;
 import com.hollingsworth.arsnouveau.api.spell.SpellContext;
 import com.hollingsworth.arsnouveau.api.spell.SpellStats;
+import com.hollingsworth.arsnouveau.api.util.ItemSensor;
 import com.hollingsworth.arsnouveau.api.util.SourceUtil;
 import com.hollingsworth.arsnouveau.client.particle.GlowParticleData;
 import com.hollingsworth.arsnouveau.client.particle.ParticleColor;
 import com.hollingsworth.arsnouveau.client.particle.ParticleUtil;
 import com.hollingsworth.arsnouveau.common.block.ITickable;
 import com.hollingsworth.arsnouveau.common.block.RitualBrazierBlock;
+import com.hollingsworth.arsnouveau.common.util.TickProfiler;
 import com.hollingsworth.arsnouveau.setup.BlockRegistry;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
@@ -37,6 +39,7 @@ import software.bernie.geckolib3.core.event.predicate.AnimationEvent;
 import software.bernie.geckolib3.core.manager.AnimationData;
 import software.bernie.geckolib3.core.manager.AnimationFactory;
 
+import javax.annotation.Nullable;
 import java.util.List;
 import java.util.Random;
 
@@ -48,6 +51,7 @@ public class RitualBrazierTile extends ModdedTile implements ITooltipProvider, I
     int blue;
     int green;
     public boolean isOff;
+    private @Nullable ItemSensor.Subscription itemSensor;
 
     public RitualBrazierTile(BlockEntityType<?> tileEntityTypeIn, BlockPos pos, BlockState state) {
         super(tileEntityTypeIn, pos, state);
@@ -99,7 +103,7 @@ public class RitualBrazierTile extends ModdedTile implements ITooltipProvider, I
                 return;
             }
             if(!ritual.isRunning() && !level.isClientSide){
-                level.getEntitiesOfClass(ItemEntity.class, new AABB(getBlockPos()).inflate(1)).forEach(i ->{
+                getItemSensor().getItems().forEach(i ->{
                     if(ritual.canConsumeItem(i.getItem())){
                         ritual.onItemConsumed(i.getItem());
                         ParticleUtil.spawnPoof((ServerLevel) level, i.blockPosition());
@@ -115,7 +119,24 @@ public class RitualBrazierTile extends ModdedTile implements ITooltipProvider, I
                     return;
                 }
             }
+            long start = TickProfiler.start(level);
             ritual.tryTick();
+            TickProfiler.record(TickProfiler.Category.RITUAL, ritual.getID(), getBlockPos(), start);
+        }
+    }
+
+    private ItemSensor.Subscription getItemSensor(){
+        if(itemSensor == null)
+            itemSensor = ItemSensor.subscribe(level, new AABB(getBlockPos()).inflate(1));
+        return itemSensor;
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        if(itemSensor != null){
+            itemSensor.unsubscribe();
+            itemSensor = null;
         }
     }
 
@@ -11,13 +11,13 @@ import com.hollingsworth.arsnouveau.api.util.BlockUtil;
 import com.hollingsworth.arsnouveau.api.util.SourceUtil;
 import com.hollingsworth.arsnouveau.client.particle.ParticleColor;
 import com.hollingsworth.arsnouveau.client.particle.ParticleUtil;
-import com.hollingsworth.arsnouveau.common.block.ITickable;
 import com.hollingsworth.arsnouveau.common.block.RuneBlock;
 import com.hollingsworth.arsnouveau.common.potions.ModPotions;
 import com.hollingsworth.arsnouveau.common.spell.method.MethodTouch;
 import com.hollingsworth.arsnouveau.common.util.PortUtil;
 import com.hollingsworth.arsnouveau.setup.BlockRegistry;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.TextComponent;
@@ -35,11 +35,20 @@ import software.bernie.geckolib3.core.manager.AnimationData;
 import software.bernie.geckolib3.core.manager.AnimationFactory;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.UUID;
 
-public class RuneTile extends AnimatedTile implements IPickupResponder, IAnimatable, ITickable, ITooltipProvider {
+/**
+ * Runes do not tick. A charged rune sleeps until an entity touches it, and a spent rune schedules a single block tick
+ * for when its cooldown ends, see {@link #wakeUp}.
+ */
+public class RuneTile extends AnimatedTile implements IPickupResponder, IAnimatable, ITooltipProvider {
+    public static final int MAX_FIELD_SIZE = 64;
+    public static final int CHARGE_COST = 100;
+
     public Spell spell = Spell.EMPTY;
     public boolean isTemporary;
     public boolean disabled;
@@ -49,6 +58,8 @@ public class RuneTile extends AnimatedTile implements IPickupResponder, IAnimata
     public UUID uuid;
     public ParticleColor color = ParticleUtil.defaultParticleColor();
     public Entity touchedEntity;
+    // Game time of the pending wake-up, earlier block ticks are left over from a field charge and are ignored
+    private long wakeAt;
 
     public RuneTile(BlockPos pos, BlockState state) {
         super(BlockRegistry.RUNE_TILE, pos, state);
@@ -81,7 +92,7 @@ public class RuneTile extends AnimatedTile implements IPickupResponder, IAnimata
             this.isCharged = false;
 
             level.setBlockAndUpdate(worldPosition, level.getBlockState(worldPosition).cycle(RuneBlock.POWERED));
-            ticksUntilCharge = 20 * 2;
+            scheduleWakeUp(20 * 2);
             setChanged();
         }catch (Exception e){
             PortUtil.sendMessage(entity, new TranslatableComponent("ars_nouveau.rune.error"));
@@ -97,7 +108,7 @@ public class RuneTile extends AnimatedTile implements IPickupResponder, IAnimata
         tag.putBoolean("charged", isCharged);
         tag.putBoolean("redstone", disabled);
         tag.putBoolean("temp", isTemporary);
-        tag.putInt("cooldown", ticksUntilCharge);
+        tag.putInt("cooldown", level == null || isCharged ? ticksUntilCharge : (int) Math.max(0, wakeAt - level.getGameTime()));
         if(uuid != null)
             tag.putUUID("uuid", uuid);
         if(color != null)
@@ -120,29 +131,76 @@ public class RuneTile extends AnimatedTile implements IPickupResponder, IAnimata
     }
 
     @Override
-    public void tick() {
+    public void onLoad() {
+        super.onLoad();
+        // Runes saved before they stopped ticking have no block tick pending
+        if(level instanceof ServerLevel && !isCharged)
+            scheduleWakeUp(Math.max(1, ticksUntilCharge));
+    }
+
+    public void scheduleWakeUp(int delay){
+        ticksUntilCharge = delay;
+        wakeAt = level.getGameTime() + delay;
+        level.scheduleTick(worldPosition, getBlockState().getBlock(), delay);
+    }
 
-        if(level == null)
+    /**
+     * Called from the rune's block tick. Recharges the rune together with the adjacent spent runes whose cooldown ended,
+     * with a single search for the closest jar that can pay for at least one rune. The runes it cannot pay for sleep
+     * until the next attempt.
+     */
+    public void wakeUp(){
+        if(level == null || level.isClientSide || isCharged)
             return;
-        if(!level.isClientSide) {
-            if (ticksUntilCharge > 0) {
-                ticksUntilCharge -= 1;
-                return;
-            }
-        }
-        if(this.isCharged)
+        if(level.getGameTime() < wakeAt){
+            // Another tick was pending when the wake-up was scheduled, so only that one got queued
+            level.scheduleTick(worldPosition, getBlockState().getBlock(), (int) (wakeAt - level.getGameTime()));
             return;
-        if(!level.isClientSide && this.isTemporary){
+        }
+        if(this.isTemporary){
             level.destroyBlock(this.worldPosition, false);
+            return;
+        }
+        List<RuneTile> field = getField();
+        // One search, this rune first, then as many of the field as the jar found can pay for
+        int charged = SourceUtil.takeSourcePortionsNearbyWithParticles(worldPosition, level, 10, CHARGE_COST, field.size());
+        for(int i = 0; i < field.size(); i++){
+            if(i < charged){
+                field.get(i).charge();
+            }else{
+                field.get(i).scheduleWakeUp(20 * 3);
+            }
         }
-        if(!level.isClientSide){
-            BlockPos fromPos = SourceUtil.takeSourceNearbyWithParticles(worldPosition, level, 10, 100);
-            if(fromPos != null) {
-                this.isCharged = true;
-                level.setBlockAndUpdate(worldPosition, level.getBlockState(worldPosition).cycle(RuneBlock.POWERED));
-            }else
-                ticksUntilCharge = 20 * 3;
+    }
+
+    private void charge(){
+        this.isCharged = true;
+        this.ticksUntilCharge = 0;
+        level.setBlockAndUpdate(worldPosition, level.getBlockState(worldPosition).cycle(RuneBlock.POWERED));
+        setChanged();
+    }
+
+    /**
+     * This rune and the spent runes connected to it that are due to recharge.
+     */
+    private List<RuneTile> getField(){
+        List<RuneTile> field = new ArrayList<>();
+        field.add(this);
+        Deque<BlockPos> open = new ArrayDeque<>();
+        open.add(worldPosition);
+        long now = level.getGameTime();
+        while(!open.isEmpty() && field.size() < MAX_FIELD_SIZE){
+            BlockPos pos = open.poll();
+            for(Direction direction : Direction.values()){
+                BlockPos next = pos.relative(direction);
+                if(level.isLoaded(next) && level.getBlockEntity(next) instanceof RuneTile rune && !field.contains(rune) && !rune.isCharged
+                        && !rune.isTemporary && rune.wakeAt <= now && field.size() < MAX_FIELD_SIZE){
+                    field.add(rune);
+                    open.add(next);
+                }
+            }
         }
+        return field;
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.hollingsworth.arsnouveau.common.block.tile;
 
 import com.hollingsworth.arsnouveau.api.client.ITooltipProvider;
+import com.hollingsworth.arsnouveau.api.util.ItemSensor;
 import com.hollingsworth.arsnouveau.api.util.NBTUtil;
 import com.hollingsworth.arsnouveau.client.particle.ParticleUtil;
 import com.hollingsworth.arsnouveau.common.block.ITickable;
@@ -57,6 +58,7 @@ public class ScribesTile extends ModdedTile implements IAnimatable, ITickable, C
     ResourceLocation recipeID; // Cached for after load
     public boolean crafting;
     public int craftingTicks;
+    private @Nullable ItemSensor.Subscription itemSensor;
 
 
     public ScribesTile(BlockPos pos, BlockState state) {
@@ -84,7 +86,9 @@ public class ScribesTile extends ModdedTile implements IAnimatable, ITickable, C
         }
         if(!level.isClientSide && level.getGameTime() % 5 == 0 && recipe != null){
             boolean foundStack = false;
-            List<ItemEntity> nearbyItems = level.getEntitiesOfClass(ItemEntity.class, new AABB(getBlockPos()).inflate(2));
+            if(itemSensor == null)
+                itemSensor = ItemSensor.subscribe(level, new AABB(getBlockPos()).inflate(2));
+            List<ItemEntity> nearbyItems = itemSensor.getItems();
             for(ItemEntity e : nearbyItems){
                 if(canConsumeItemstack(e.getItem())){
                     ItemStack copyStack = e.getItem().copy();
@@ -387,6 +391,15 @@ public class ScribesTile extends ModdedTile implements IAnimatable, ITickable, C
         super.invalidateCaps();
     }
 
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        if(itemSensor != null){
+            itemSensor.unsubscribe();
+            itemSensor = null;
+        }
+    }
+
     @Override
     public void getTooltip(List<Component> tooltip) {
         if(!isMasterTile()) {
@@ -4,14 +4,18 @@ import com.hollingsworth.arsnouveau.api.source.AbstractSourceMachine;
 import com.hollingsworth.arsnouveau.api.source.ISourceTile;
 import com.hollingsworth.arsnouveau.api.source.SourcelinkEventQueue;
 import com.hollingsworth.arsnouveau.api.util.BlockUtil;
+import com.hollingsworth.arsnouveau.api.util.ItemSensor;
 import com.hollingsworth.arsnouveau.api.util.SourceUtil;
 import com.hollingsworth.arsnouveau.client.particle.ParticleUtil;
 import com.hollingsworth.arsnouveau.common.block.ITickable;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.AABB;
 import net.minecraftforge.eventbus.api.Event;
 import software.bernie.geckolib3.core.IAnimatable;
 import software.bernie.geckolib3.core.PlayState;
@@ -26,10 +30,15 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class SourcelinkTile extends AbstractSourceMachine implements IAnimatable, ITickable {
+    /**
+     * Max distance eventInRange may accept, used by the SourcelinkEventQueue to limit its lookup.
+     */
+    public static final int EVENT_RANGE = 15;
 
     int progress;
     public boolean isDisabled = false;
     public boolean registered = false;
+    private @Nullable ItemSensor.Subscription itemSensor;
 
     public SourcelinkTile(BlockEntityType<?> sourceLinkTile, BlockPos pos, BlockState state) {
         super(sourceLinkTile, pos, state);
@@ -49,8 +58,8 @@ public class SourcelinkTile extends AbstractSourceMachine implements IAnimatable
     public void tick() {
         if(level.isClientSide)
             return;
-        if(level.getGameTime() % 120 == 0 && usesEventQueue()){
-            SourcelinkEventQueue.addPosition(level, this.worldPosition);
+        if(!registered && usesEventQueue()){
+            SourcelinkEventQueue.register(this);
             registered = true;
         }
 
@@ -63,6 +72,22 @@ public class SourcelinkTile extends AbstractSourceMachine implements IAnimatable
         }
     }
 
+    /**
+     * Dropped items this link can burn, pushed by the item sensor so an empty area costs nothing to check.
+     */
+    public List<ItemEntity> getNearbyFuel(){
+        if(itemSensor == null)
+            itemSensor = ItemSensor.subscribe(level, new AABB(worldPosition).inflate(1.0), i -> isFuel(i.getItem()));
+        return itemSensor.getItems();
+    }
+
+    /**
+     * Cheap check for items that getSourceValue may accept, without any side effects on progress.
+     */
+    public boolean isFuel(ItemStack stack){
+        return false;
+    }
+
     public List<ArcanePedestalTile> getSurroundingPedestals(){
         List<ArcanePedestalTile> inventories = new ArrayList<>();
         for(BlockPos p : BlockPos.betweenClosed(getBlockPos().below().east().north(), getBlockPos().above().west().south())){
@@ -79,7 +104,20 @@ public class SourcelinkTile extends AbstractSourceMachine implements IAnimatable
     }
 
     public boolean eventInRange(BlockPos sourcePos, @Nullable Event event){
-        return BlockUtil.distanceFrom(this.worldPosition, sourcePos) <= 15;
+        return BlockUtil.distanceFrom(this.worldPosition, sourcePos) <= EVENT_RANGE;
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        if(registered && level != null && !level.isClientSide) {
+            SourcelinkEventQueue.unregister(this);
+            registered = false;
+        }
+        if(itemSensor != null){
+            itemSensor.unsubscribe();
+            itemSensor = null;
+        }
     }
 
     public boolean usesEventQueue(){
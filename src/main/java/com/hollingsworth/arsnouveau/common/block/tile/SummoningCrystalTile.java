@@ -1,5 +1,6 @@
 package com.hollingsworth.arsnouveau.common.block.tile;
 
+import com.hollingsworth.arsnouveau.api.client.ISharedIdleAnimation;
 import com.hollingsworth.arsnouveau.api.source.AbstractSourceMachine;
 import com.hollingsworth.arsnouveau.api.util.BlockUtil;
 import com.hollingsworth.arsnouveau.api.util.SourceUtil;
@@ -22,7 +23,7 @@ import software.bernie.geckolib3.core.manager.AnimationFactory;
 
 import java.util.Random;
 
-public class SummoningCrystalTile extends AbstractSourceMachine implements IAnimatable, ITickable {
+public class SummoningCrystalTile extends AbstractSourceMachine implements IAnimatable, ITickable, ISharedIdleAnimation {
 
     public boolean isOff;
 
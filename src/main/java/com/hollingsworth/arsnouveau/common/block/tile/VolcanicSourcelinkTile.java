@@ -14,7 +14,6 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.material.Fluids;
-import net.minecraft.world.phys.AABB;
 import net.minecraftforge.common.ForgeHooks;
 import net.minecraftforge.common.Tags;
 import software.bernie.geckolib3.core.IAnimatable;
@@ -39,7 +38,7 @@ public class VolcanicSourcelinkTile extends SourcelinkTile implements IAnimatabl
         if(level.isClientSide)
             return;
         if(level.getGameTime() % 20 == 0 && this.canAcceptSource()){
-            for(ItemEntity i : level.getEntitiesOfClass(ItemEntity.class, new AABB(worldPosition).inflate(1.0))){
+            for(ItemEntity i : getNearbyFuel()){
                 int source = getSourceValue(i.getItem());
                 if(source > 0) {
                     this.addSource(source);
@@ -67,6 +66,12 @@ public class VolcanicSourcelinkTile extends SourcelinkTile implements IAnimatabl
         }
     }
 
+    @Override
+    public boolean isFuel(ItemStack stack) {
+        return ForgeHooks.getBurnTime(stack, null) > 0 || stack.getItem() == BlockRegistry.BLAZING_LOG.asItem()
+                || stack.is(ItemTagProvider.ARCHWOOD_LOG_TAG) || stack.getItem() == ItemsRegistry.FIRE_ESSENCE;
+    }
+
     public int getSourceValue(ItemStack i){
         int source = 0;
         int progress = 0;
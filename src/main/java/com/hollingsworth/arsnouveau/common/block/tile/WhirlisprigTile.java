@@ -1,6 +1,7 @@
 package com.hollingsworth.arsnouveau.common.block.tile;
 
 import com.hollingsworth.arsnouveau.ArsNouveau;
+import com.hollingsworth.arsnouveau.api.client.ISharedIdleAnimation;
 import com.hollingsworth.arsnouveau.api.util.BlockUtil;
 import com.hollingsworth.arsnouveau.api.util.DropDistribution;
 import com.hollingsworth.arsnouveau.api.util.SourceUtil;
@@ -37,7 +38,7 @@ import java.util.*;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
-public class WhirlisprigTile extends SummoningTile implements IAnimatable {
+public class WhirlisprigTile extends SummoningTile implements IAnimatable, ISharedIdleAnimation {
 
     public static TagKey<Block> KINDA_LIKES =  BlockTags.create(new ResourceLocation(ArsNouveau.MODID, "whirlisprig/kinda_likes"));
     public static TagKey<Block> GREATLY_LIKES =  BlockTags.create(new ResourceLocation(ArsNouveau.MODID, "whirlisprig/greatly_likes"));
@@ -0,0 +1,20 @@
+package com.hollingsworth.arsnouveau.common.camera;
+
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.LevelChunk;
+
+import javax.annotation.Nullable;
+
+/**
+ * Implemented by ChunkMapMixin so the CameraChunkStreamer can reach the ChunkMap internals it needs
+ */
+public interface ANICameraChunkTracker {
+
+    @Nullable
+    LevelChunk an_getTickingChunk(long chunkPos);
+
+    void an_updateCameraChunk(ServerPlayer player, ChunkPos chunkPos, boolean wasLoaded, boolean load);
+
+    int an_getViewDistance();
+}
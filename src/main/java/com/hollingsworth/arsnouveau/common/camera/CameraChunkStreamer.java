@@ -0,0 +1,233 @@
+package com.hollingsworth.arsnouveau.common.camera;
+
+import com.hollingsworth.arsnouveau.common.entity.ScryerCamera;
+import com.hollingsworth.arsnouveau.common.util.CameraUtil;
+import com.hollingsworth.arsnouveau.setup.Config;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.*;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ChunkMap;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Streams the chunks around a viewed ScryerCamera to its player. Only chunks entering or leaving the camera view are
+ * touched, new chunks are sent nearest first under a per tick byte budget, and chunks that left the view linger on the
+ * client for a while so switching back and forth between cameras does not resend them.
+ *
+ * The client keeps camera chunks in a ring buffer (see ClientChunkCacheMixin), so the streamer mirrors its slot layout
+ * to know which chunks the client still holds.
+ */
+public class CameraChunkStreamer {
+    /**
+     * Ticks a chunk that left the camera view stays on the client before it is forgotten.
+     */
+    public static final int LINGER_TICKS = 200;
+    /**
+     * Rough size of the light data sent along with each non empty section.
+     */
+    private static final int LIGHT_BYTES_ESTIMATE = 4096;
+
+    private static final Map<UUID, CameraChunkStreamer> STREAMERS = new HashMap<>();
+
+    private ResourceKey<Level> dimension;
+    private int storageRadius = -1;
+    private SectionPos center;
+    private int viewDistance;
+
+    private final LongOpenHashSet inView = new LongOpenHashSet();
+    private final LongArrayList pending = new LongArrayList();
+    private final LongOpenHashSet resident = new LongOpenHashSet();
+    private final Int2LongOpenHashMap slots = new Int2LongOpenHashMap();
+    private final Long2LongOpenHashMap lingering = new Long2LongOpenHashMap();
+
+    public static CameraChunkStreamer get(ServerPlayer player){
+        return STREAMERS.computeIfAbsent(player.getUUID(), uuid -> new CameraChunkStreamer());
+    }
+
+    public static void remove(ServerPlayer player){
+        STREAMERS.remove(player.getUUID());
+    }
+
+    public static void clear(){
+        STREAMERS.clear();
+    }
+
+    public static void tick(ServerPlayer player){
+        CameraChunkStreamer streamer = STREAMERS.get(player.getUUID());
+        if(streamer != null)
+            streamer.tickStreamer(player);
+    }
+
+    /**
+     * Called whenever the ChunkMap moves a player that is viewing a camera.
+     */
+    public void onMove(ServerPlayer player, ScryerCamera camera, int viewDistance){
+        validateClientStorage(player);
+        SectionPos newCenter = SectionPos.of(camera);
+        camera.setHasLoadedChunks(viewDistance);
+        if(newCenter.equals(center) && viewDistance == this.viewDistance)
+            return;
+
+        long gameTime = player.level.getGameTime();
+        LongOpenHashSet newView = new LongOpenHashSet();
+        for(int x = newCenter.x() - viewDistance; x <= newCenter.x() + viewDistance; x++){
+            for(int z = newCenter.z() - viewDistance; z <= newCenter.z() + viewDistance; z++){
+                newView.add(ChunkPos.asLong(x, z));
+            }
+        }
+
+        LongIterator iterator = inView.iterator();
+        while(iterator.hasNext()){
+            long pos = iterator.nextLong();
+            if(!newView.contains(pos) && resident.contains(pos))
+                lingering.put(pos, gameTime);
+        }
+        pending.clear();
+        iterator = newView.iterator();
+        while(iterator.hasNext()){
+            long pos = iterator.nextLong();
+            lingering.remove(pos);
+            if(!resident.contains(pos))
+                pending.add(pos);
+        }
+        int centerX = newCenter.x();
+        int centerZ = newCenter.z();
+        pending.sort((long a, long b) -> Integer.compare(distanceSqr(a, centerX, centerZ), distanceSqr(b, centerX, centerZ)));
+
+        inView.clear();
+        inView.addAll(newView);
+        center = newCenter;
+        this.viewDistance = viewDistance;
+    }
+
+    private void tickStreamer(ServerPlayer player){
+        if(!(player.level instanceof ServerLevel level))
+            return;
+        ANICameraChunkTracker tracker = (ANICameraChunkTracker) level.getChunkSource().chunkMap;
+        SectionPos playerSection = player.getLastSectionPos();
+        int playerViewDistance = tracker.an_getViewDistance();
+
+        if(center != null && !CameraUtil.isPlayerMountedOnCamera(player)){
+            // Dismounted, let everything we sent age out so a quick remount can reuse it
+            long gameTime = level.getGameTime();
+            LongIterator iterator = inView.iterator();
+            while(iterator.hasNext()){
+                long pos = iterator.nextLong();
+                if(resident.contains(pos))
+                    lingering.put(pos, gameTime);
+            }
+            inView.clear();
+            pending.clear();
+            center = null;
+        }
+
+        if(!pending.isEmpty()){
+            int budget = Config.CAMERA_CHUNK_BYTES_PER_TICK.get();
+            int spent = 0;
+            LongListIterator iterator = pending.listIterator();
+            while(iterator.hasNext()){
+                long pos = iterator.nextLong();
+                int x = ChunkPos.getX(pos);
+                int z = ChunkPos.getZ(pos);
+                if(ChunkMap.isChunkInRange(x, z, playerSection.x(), playerSection.z(), playerViewDistance)){
+                    // Already tracked by the player themselves
+                    iterator.remove();
+                    continue;
+                }
+                LevelChunk chunk = tracker.an_getTickingChunk(pos);
+                if(chunk == null)
+                    continue; // Still loading, try again next tick
+                int size = estimateSize(chunk);
+                if(spent > 0 && spent + size > budget)
+                    break;
+                tracker.an_updateCameraChunk(player, new ChunkPos(x, z), false, true);
+                markResident(pos);
+                spent += size;
+                iterator.remove();
+            }
+        }
+
+        if(!lingering.isEmpty()){
+            long gameTime = level.getGameTime();
+            ObjectIterator<Long2LongMap.Entry> iterator = lingering.long2LongEntrySet().fastIterator();
+            while(iterator.hasNext()){
+                Long2LongMap.Entry entry = iterator.next();
+                if(gameTime - entry.getLongValue() < LINGER_TICKS)
+                    continue;
+                long pos = entry.getLongKey();
+                int x = ChunkPos.getX(pos);
+                int z = ChunkPos.getZ(pos);
+                if(!ChunkMap.isChunkInRange(x, z, playerSection.x(), playerSection.z(), playerViewDistance))
+                    tracker.an_updateCameraChunk(player, new ChunkPos(x, z), true, false);
+                resident.remove(pos);
+                slots.remove(getSlot(x, z));
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Records that the client now holds the chunk, evicting whatever shared its slot in the client camera storage.
+     */
+    private void markResident(long pos){
+        int slot = getSlot(ChunkPos.getX(pos), ChunkPos.getZ(pos));
+        if(slots.containsKey(slot)){
+            long previous = slots.get(slot);
+            if(previous != pos){
+                resident.remove(previous);
+                lingering.remove(previous);
+            }
+        }
+        slots.put(slot, pos);
+        resident.add(pos);
+    }
+
+    /**
+     * The client rebuilds its camera storage when the view distance or dimension changes, dropping everything in it.
+     */
+    private void validateClientStorage(ServerPlayer player){
+        int radius = Math.max(2, player.server.getPlayerList().getViewDistance()) + 3;
+        if(radius != storageRadius || player.level.dimension() != dimension){
+            storageRadius = radius;
+            dimension = player.level.dimension();
+            center = null;
+            inView.clear();
+            pending.clear();
+            resident.clear();
+            slots.clear();
+            lingering.clear();
+        }
+    }
+
+    private int getSlot(int x, int z){
+        int size = storageRadius * 2 + 1;
+        return Math.floorMod(z, size) * size + Math.floorMod(x, size);
+    }
+
+    private static int distanceSqr(long pos, int centerX, int centerZ){
+        int dx = ChunkPos.getX(pos) - centerX;
+        int dz = ChunkPos.getZ(pos) - centerZ;
+        return dx * dx + dz * dz;
+    }
+
+    private static int estimateSize(LevelChunk chunk){
+        int size = 0;
+        for(LevelChunkSection section : chunk.getSections()){
+            size += section.getSerializedSize();
+            if(!section.hasOnlyAir())
+                size += LIGHT_BYTES_ESTIMATE;
+        }
+        return Math.max(size, 1);
+    }
+}
@@ -0,0 +1,35 @@
+package com.hollingsworth.arsnouveau.common.command;
+
+import com.hollingsworth.arsnouveau.api.event.EventQueue;
+import com.mojang.brigadier.CommandDispatcher;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.TextComponent;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+
+import java.util.Map;
+
+public class EventQueueCommand {
+
+    public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal("ars-events")
+                .requires(sender -> sender.hasPermission(2)) // Op required
+                .executes(context -> report(context.getSource())));
+    }
+
+    private static int report(CommandSourceStack source) {
+        reportQueue(source, "global", EventQueue.getServerInstance());
+        for(Map.Entry<ResourceKey<Level>, EventQueue> entry : EventQueue.getLevelQueues().entrySet()){
+            reportQueue(source, entry.getKey().location().toString(), entry.getValue());
+        }
+        return 1;
+    }
+
+    private static void reportQueue(CommandSourceStack source, String name, EventQueue queue) {
+        source.sendSuccess(new TextComponent(name + ": " + queue.size() + " events"), false);
+        for(Map.Entry<String, Integer> count : queue.countByType().entrySet()){
+            source.sendSuccess(new TextComponent("  " + count.getKey() + ": " + count.getValue()), false);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.hollingsworth.arsnouveau.common.command;
+
+import com.hollingsworth.arsnouveau.common.util.TickProfiler;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.TextComponent;
+
+public class ProfileCommand {
+
+    public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal("ars-profile")
+                .requires(sender -> sender.hasPermission(2)) // Op required
+                .then(Commands.literal("stop").executes(context -> stop(context.getSource())))
+                .then(Commands.argument("seconds", IntegerArgumentType.integer(1, 300))
+                        .executes(context -> start(context.getSource(), IntegerArgumentType.getInteger(context, "seconds"), 5))
+                        .then(Commands.argument("top", IntegerArgumentType.integer(1, 50))
+                                .executes(context -> start(context.getSource(), IntegerArgumentType.getInteger(context, "seconds"), IntegerArgumentType.getInteger(context, "top"))))));
+    }
+
+    private static int start(CommandSourceStack source, int seconds, int top) {
+        if(TickProfiler.isRunning()){
+            source.sendFailure(new TextComponent("A profile is already running, use /ars-profile stop to end it early"));
+            return 0;
+        }
+        TickProfiler.begin(source, seconds, top);
+        source.sendSuccess(new TextComponent("Profiling Ars Nouveau for " + seconds + " seconds"), true);
+        return 1;
+    }
+
+    private static int stop(CommandSourceStack source) {
+        if(!TickProfiler.isRunning()){
+            source.sendFailure(new TextComponent("No profile is running"));
+            return 0;
+        }
+        TickProfiler.finish();
+        return 1;
+    }
+}
@@ -5,6 +5,7 @@ import com.hollingsworth.arsnouveau.api.ANFakePlayer;
 import com.hollingsworth.arsnouveau.api.client.ITooltipProvider;
 import com.hollingsworth.arsnouveau.api.client.IVariantTextureProvider;
 import com.hollingsworth.arsnouveau.api.entity.IDispellable;
+import com.hollingsworth.arsnouveau.api.util.ItemSensor;
 import com.hollingsworth.arsnouveau.api.util.NBTUtil;
 import com.hollingsworth.arsnouveau.client.ClientInfo;
 import com.hollingsworth.arsnouveau.client.particle.GlowParticleData;
@@ -148,7 +149,7 @@ public class EntityDrygmy extends PathfinderMob implements IAnimatable, ITooltip
                     0, 0, 0);
         }
         if (!isTamed() && !this.entityData.get(BEING_TAMED) && level.getGameTime() % 40 == 0 ) {
-            for (ItemEntity itementity : this.level.getEntitiesOfClass(ItemEntity.class, this.getBoundingBox().inflate(1))) {
+            for (ItemEntity itementity : ItemSensor.getItems(level, this.getBoundingBox().inflate(1))) {
                 pickUpItem(itementity);
             }
         }
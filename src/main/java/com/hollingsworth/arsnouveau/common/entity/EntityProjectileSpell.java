@@ -23,6 +23,7 @@ import net.minecraft.world.level.ClipContext;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.material.Material;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.EntityHitResult;
 import net.minecraft.world.phys.HitResult;
@@ -32,6 +33,7 @@ import net.minecraftforge.network.PlayMessages;
 
 import javax.annotation.Nullable;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 public class EntityProjectileSpell extends ColoredProjectile {
@@ -45,6 +47,8 @@ public class EntityProjectileSpell extends ColoredProjectile {
     public int expireTime = 60 * 20;
 
     public Set<BlockPos> hitList = new HashSet<>();
+    // Shared entity query with the other projectiles of the same Split cast, not saved
+    public @Nullable ProjectileSwarm swarm;
 
     public EntityProjectileSpell(EntityType<? extends EntityProjectileSpell> entityType, Level world) {
         super(entityType, world);
@@ -190,7 +194,17 @@ public class EntityProjectileSpell extends ColoredProjectile {
 
     @Nullable
     protected EntityHitResult findHitEntity(Vec3 pStartVec, Vec3 pEndVec) {
-        return ProjectileUtil.getEntityHitResult(this.level, this, pStartVec, pEndVec, this.getBoundingBox().expandTowards(this.getDeltaMovement()).inflate(1.0D), this::canHitEntity);
+        List<Entity> candidates = swarm == null ? null : swarm.getCandidates(this);
+        if(candidates != null)
+            return ProjectileSwarm.getEntityHitResult(this, candidates, pStartVec, pEndVec, getHitSearchBox());
+        return ProjectileUtil.getEntityHitResult(this.level, this, pStartVec, pEndVec, getHitSearchBox(), this::canHitEntity);
+    }
+
+    /**
+     * The box searched for entities in the way of this tick's movement.
+     */
+    public AABB getHitSearchBox(){
+        return this.getBoundingBox().expandTowards(this.getDeltaMovement()).inflate(1.0D);
     }
 
     /**
@@ -0,0 +1,94 @@
+package com.hollingsworth.arsnouveau.common.entity;
+
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.EntityHitResult;
+import net.minecraft.world.phys.Vec3;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Projectiles fired together by one Split cast. The first member to tick each game tick queries the entities in the box
+ * swept by the whole swarm, and every member then only tests that list against its own path. Members that stray too far
+ * from the rest, whose box leaves the queried box, or that are in another level, go back to their own query.
+ * <p>
+ * Unlike a query per member, the list is taken when the first member ticks. Members that tick later in the same tick
+ * test entities at the positions they had then, and do not see entities that entered the box or spawned in between.
+ * A fast entity crossing the swarm mid tick can therefore be missed by a later member and hit on the next tick instead.
+ */
+public class ProjectileSwarm {
+    // Past this size the shared query would cover more empty space than the members' own boxes together
+    public static final double MAX_EXTENT = 32.0;
+
+    private final List<EntityProjectileSpell> members = new ArrayList<>();
+    private long queriedAt = -1;
+    private @Nullable Level queriedLevel;
+    private @Nullable AABB queriedBox;
+    private List<Entity> candidates = new ArrayList<>();
+
+    public void add(EntityProjectileSpell projectile){
+        members.add(projectile);
+        projectile.swarm = this;
+    }
+
+    /**
+     * The entities that might be hit by the given member this tick, or null if it should run its own query.
+     */
+    public @Nullable List<Entity> getCandidates(EntityProjectileSpell member){
+        Level level = member.level;
+        if(level.getGameTime() != queriedAt || level != queriedLevel){
+            query(level);
+        }
+        if(queriedBox == null || level != queriedLevel || member.swarm != this || !contains(queriedBox, member.getHitSearchBox()))
+            return null;
+        return candidates;
+    }
+
+    private void query(Level level){
+        queriedAt = level.getGameTime();
+        queriedLevel = level;
+        members.removeIf(Entity::isRemoved);
+        AABB union = null;
+        for(EntityProjectileSpell member : members){
+            if(member.level == level)
+                union = union == null ? member.getHitSearchBox() : union.minmax(member.getHitSearchBox());
+        }
+        if(union == null || Math.max(union.getXsize(), Math.max(union.getYsize(), union.getZsize())) > MAX_EXTENT){
+            queriedBox = null;
+            candidates.clear();
+            return;
+        }
+        queriedBox = union;
+        candidates = level.getEntities((Entity) null, union, e -> true);
+    }
+
+    private static boolean contains(AABB outer, AABB inner){
+        return inner.minX >= outer.minX && inner.minY >= outer.minY && inner.minZ >= outer.minZ
+                && inner.maxX <= outer.maxX && inner.maxY <= outer.maxY && inner.maxZ <= outer.maxZ;
+    }
+
+    /**
+     * Same as ProjectileUtil#getEntityHitResult, over the swarm's candidates instead of a fresh query.
+     */
+    public static @Nullable EntityHitResult getEntityHitResult(EntityProjectileSpell projectile, List<Entity> candidates, Vec3 start, Vec3 end, AABB searchBox){
+        double closest = Double.MAX_VALUE;
+        Entity hit = null;
+        for(Entity entity : candidates){
+            if(entity == projectile || !entity.getBoundingBox().intersects(searchBox) || !projectile.canHitEntity(entity))
+                continue;
+            Optional<Vec3> clip = entity.getBoundingBox().inflate(0.3F).clip(start, end);
+            if(clip.isPresent()){
+                double distance = start.distanceToSqr(clip.get());
+                if(distance < closest){
+                    hit = entity;
+                    closest = distance;
+                }
+            }
+        }
+        return hit == null ? null : new EntityHitResult(hit);
+    }
+}
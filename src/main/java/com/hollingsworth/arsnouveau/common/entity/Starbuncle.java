@@ -6,6 +6,7 @@ import com.hollingsworth.arsnouveau.api.entity.IDispellable;
 import com.hollingsworth.arsnouveau.api.familiar.PersistentFamiliarData;
 import com.hollingsworth.arsnouveau.api.item.IWandable;
 import com.hollingsworth.arsnouveau.api.util.BlockUtil;
+import com.hollingsworth.arsnouveau.api.util.ItemSensor;
 import com.hollingsworth.arsnouveau.api.util.NBTUtil;
 import com.hollingsworth.arsnouveau.client.particle.ParticleUtil;
 import com.hollingsworth.arsnouveau.common.block.SummonBed;
@@ -263,7 +264,7 @@ public class Starbuncle extends PathfinderMob implements IAnimatable, IDecoratab
         if (this.getHeldStack().isEmpty() && !level.isClientSide) {
 
             // Cannot use a single expanded bounding box because we don't want this to overlap with an adjacentt inventory that also has a frame.
-            for (ItemEntity itementity : this.level.getEntitiesOfClass(ItemEntity.class, this.getBoundingBox().inflate(1))) {
+            for (ItemEntity itementity : ItemSensor.getItems(level, this.getBoundingBox().inflate(1))) {
                 if (itementity.isAlive() && !itementity.getItem().isEmpty() && !itementity.hasPickUpDelay()) {
                     if (!isTamed() && itementity.getItem().getItem() != Items.GOLD_NUGGET)
                         return;
@@ -349,7 +350,7 @@ public class Starbuncle extends PathfinderMob implements IAnimatable, IDecoratab
             this.level.playSound(null, this.getX(), this.getY(), this.getZ(), SoundEvents.ITEM_PICKUP, this.getSoundSource(), 1.0F, 1.0F);
             if (!isTamed())
                 return;
-            for (ItemEntity i : level.getEntitiesOfClass(ItemEntity.class, this.getBoundingBox().inflate(3))) {
+            for (ItemEntity i : ItemSensor.getItems(level, this.getBoundingBox().inflate(3))) {
                 if (itemEntity.getItem().getCount() >= itemEntity.getItem().getMaxStackSize())
                     break;
                 int maxTake = getHeldStack().getMaxStackSize() - getHeldStack().getCount();
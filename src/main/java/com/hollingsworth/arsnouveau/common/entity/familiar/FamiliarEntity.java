@@ -54,6 +54,7 @@ public class FamiliarEntity extends PathfinderMob implements IAnimatable, IFamil
     public boolean terminatedFamiliar;
     public String holderID;
     public PersistentFamiliarData<?> persistentData = new PersistentFamiliarData<>(new CompoundTag());
+    private @Nullable UUID registeredOwner;
 
     public FamiliarEntity(EntityType<? extends PathfinderMob> p_i48575_1_, Level p_i48575_2_) {
         super(p_i48575_1_, p_i48575_2_);
@@ -66,9 +67,37 @@ public class FamiliarEntity extends PathfinderMob implements IAnimatable, IFamil
         return false;
     }
 
+    @Override
+    public void onAddedToWorld() {
+        super.onAddedToWorld();
+        updateRegistry();
+    }
+
     @Override
     public void onRemovedFromWorld() {
         super.onRemovedFromWorld();
+        unregister();
+    }
+
+    /**
+     * Keeps the owner index in {@link FamiliarRegistry} in step with this familiar's owner and world state.
+     */
+    protected void updateRegistry(){
+        if(level.isClientSide)
+            return;
+        UUID owner = isAddedToWorld() && !isRemoved() && !terminatedFamiliar ? getOwnerID() : null;
+        if(Objects.equals(owner, registeredOwner))
+            return;
+        unregister();
+        if(owner != null)
+            FamiliarRegistry.add(this, owner);
+        registeredOwner = owner;
+    }
+
+    protected void unregister(){
+        if(registeredOwner != null)
+            FamiliarRegistry.remove(this, registeredOwner);
+        registeredOwner = null;
     }
 
     public double getManaReserveModifier(){
@@ -93,12 +122,14 @@ public class FamiliarEntity extends PathfinderMob implements IAnimatable, IFamil
         if(this.terminatedFamiliar){
             this.remove(RemovalReason.DISCARDED);
             FamiliarEntity.FAMILIAR_SET.remove(this);
+            unregister();
         }
         if(level.getGameTime() % 20 == 0 && !level.isClientSide){
             if(getOwnerID() == null || ((ServerLevel)level).getEntity(getOwnerID()) == null || terminatedFamiliar){
                 this.remove(RemovalReason.DISCARDED);
                 this.terminatedFamiliar = true;
                 FAMILIAR_SET.remove(this);
+                unregister();
             }
         }
     }
@@ -177,6 +208,7 @@ public class FamiliarEntity extends PathfinderMob implements IAnimatable, IFamil
 
     public void setOwnerID(UUID uuid) {
         this.getEntityData().set(OWNER_UUID, Optional.of(uuid));
+        updateRegistry();
     }
 
     public ItemStack getCosmeticItem(){
@@ -257,8 +289,10 @@ public class FamiliarEntity extends PathfinderMob implements IAnimatable, IFamil
         if(level.isClientSide)
             return;
         IFamiliar.super.onFamiliarSpawned(event);
-        if(!event.getEntity().equals(this) && event.owner.equals(this.getOwner()))
+        if(!event.getEntity().equals(this) && event.owner.equals(this.getOwner())) {
             this.terminatedFamiliar = true;
+            unregister();
+        }
     }
 
     public String getColor(){
@@ -0,0 +1,56 @@
+package com.hollingsworth.arsnouveau.common.entity.familiar;
+
+import net.minecraft.world.entity.Entity;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * Server side index of loaded familiars by owner UUID. Familiars enter it when added to a world, move when their owner
+ * changes and leave it when removed, so event handlers only ever visit the familiars of the entity involved.
+ */
+public class FamiliarRegistry {
+    private static final Map<UUID, List<FamiliarEntity>> BY_OWNER = new HashMap<>();
+
+    static void add(FamiliarEntity familiar, UUID owner){
+        List<FamiliarEntity> familiars = BY_OWNER.computeIfAbsent(owner, k -> new ArrayList<>(1));
+        if(!familiars.contains(familiar))
+            familiars.add(familiar);
+    }
+
+    static void remove(FamiliarEntity familiar, UUID owner){
+        List<FamiliarEntity> familiars = BY_OWNER.get(owner);
+        if(familiars != null && familiars.remove(familiar) && familiars.isEmpty())
+            BY_OWNER.remove(owner);
+    }
+
+    /**
+     * @return the live familiars bound to this owner that are of the given type, usually none or one.
+     */
+    public static <T> List<T> getFamiliars(@Nullable Entity owner, Class<T> type){
+        if(owner == null || owner.level.isClientSide)
+            return Collections.emptyList();
+        List<FamiliarEntity> familiars = BY_OWNER.get(owner.getUUID());
+        if(familiars == null)
+            return Collections.emptyList();
+        List<T> matching = new ArrayList<>(familiars.size());
+        for(FamiliarEntity familiar : familiars){
+            if(!familiar.isRemoved() && !familiar.terminatedFamiliar && type.isInstance(familiar))
+                matching.add(type.cast(familiar));
+        }
+        return matching;
+    }
+
+    /**
+     * @return every registered familiar, regardless of owner.
+     */
+    public static List<FamiliarEntity> getAll(){
+        List<FamiliarEntity> all = new ArrayList<>();
+        BY_OWNER.values().forEach(all::addAll);
+        return all;
+    }
+
+    public static void clear(){
+        BY_OWNER.clear();
+    }
+}
@@ -1,5 +1,6 @@
 package com.hollingsworth.arsnouveau.common.entity.goal;
 
+import com.hollingsworth.arsnouveau.api.util.ItemSensor;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.ai.goal.Goal;
@@ -22,7 +23,7 @@ public class UntamedFindItemGoal extends Goal {
     ItemEntity pathingEntity;
 
     public List<ItemEntity> nearbyItems(){
-        return mobEntity.level.getEntitiesOfClass(ItemEntity.class, new AABB(mobEntity.blockPosition()).inflate(8), itemSelector);
+        return ItemSensor.getItems(mobEntity.level, new AABB(mobEntity.blockPosition()).inflate(8), itemSelector);
     }
 
     public UntamedFindItemGoal(Mob mobEntity, Supplier<Boolean> canRun, Predicate<ItemEntity> itemSelector){
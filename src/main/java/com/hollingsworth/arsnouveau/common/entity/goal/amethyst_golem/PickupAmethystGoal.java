@@ -1,6 +1,7 @@
 package com.hollingsworth.arsnouveau.common.entity.goal.amethyst_golem;
 
 import com.hollingsworth.arsnouveau.api.util.BlockUtil;
+import com.hollingsworth.arsnouveau.api.util.ItemSensor;
 import com.hollingsworth.arsnouveau.common.datagen.ItemTagProvider;
 import com.hollingsworth.arsnouveau.common.entity.AmethystGolem;
 import net.minecraft.world.entity.ai.goal.Goal;
@@ -56,7 +57,7 @@ public class PickupAmethystGoal extends Goal {
 
     public void collectStacks(){
 
-        for(ItemEntity i : golem.level.getEntitiesOfClass(ItemEntity.class,new AABB(golem.getHome()).inflate(10))){
+        for(ItemEntity i : ItemSensor.getItems(golem.level, new AABB(golem.getHome()).inflate(10), e -> e.getItem().is(ItemTagProvider.SHARD_TAG))){
             if (!i.getItem().is(ItemTagProvider.SHARD_TAG))
                 continue;
             int maxTake = golem.getHeldStack().getMaxStackSize() - golem.getHeldStack().getCount();
@@ -85,7 +86,7 @@ public class PickupAmethystGoal extends Goal {
     public void start() {
         this.isDone = false;
         this.usingTicks = 80;
-        for(ItemEntity entity : golem.level.getEntitiesOfClass(ItemEntity.class, new AABB(golem.getHome()).inflate(10))){
+        for(ItemEntity entity : ItemSensor.getItems(golem.level, new AABB(golem.getHome()).inflate(10), e -> e.getItem().is(ItemTagProvider.SHARD_TAG))){
             if (entity.getItem().is(ItemTagProvider.SHARD_TAG)) {
                 golem.getNavigation().tryMoveToBlockPos(entity.blockPosition(), 1f);
                 targetEntity = entity;
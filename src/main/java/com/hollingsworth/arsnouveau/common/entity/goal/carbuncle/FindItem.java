@@ -1,5 +1,6 @@
 package com.hollingsworth.arsnouveau.common.entity.goal.carbuncle;
 
+import com.hollingsworth.arsnouveau.api.util.ItemSensor;
 import com.hollingsworth.arsnouveau.common.entity.Starbuncle;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.entity.ai.goal.Goal;
@@ -51,7 +52,7 @@ public class FindItem extends Goal {
     }
 
     public List<ItemEntity> nearbyItems(){
-       return starbuncle.level.getEntitiesOfClass(ItemEntity.class, starbuncle.getAABB(), starbuncle.isTamed() ? TRUSTED_TARGET_SELECTOR : NONTAMED_TARGET_SELECTOR);
+       return ItemSensor.getItems(starbuncle.level, starbuncle.getAABB(), starbuncle.isTamed() ? TRUSTED_TARGET_SELECTOR : NONTAMED_TARGET_SELECTOR);
     }
 
     @Override
@@ -80,7 +80,7 @@ public class StoreItemGoal extends ExtendedRangeGoal {
                     try {
                         OpenChestEvent event = new OpenChestEvent(serverLevel, storePos, 20);
                         event.open();
-                        EventQueue.getServerInstance().addEvent(event);
+                        EventQueue.getLevelQueue(serverLevel).addEvent(event);
                     } catch (Throwable ignored) {
                     }
                 }
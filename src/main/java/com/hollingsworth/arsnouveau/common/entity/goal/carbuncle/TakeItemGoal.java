@@ -76,7 +76,7 @@ public class TakeItemGoal extends ExtendedRangeGoal {
                     try {
                         OpenChestEvent event = new OpenChestEvent(serverLevel, takePos, 20);
                         event.open();
-                        EventQueue.getServerInstance().addEvent(event);
+                        EventQueue.getLevelQueue(serverLevel).addEvent(event);
                     } catch (Throwable ignored) {
                     }
                 }
@@ -55,7 +55,7 @@ public class ChimeraSummonGoal extends Goal {
         if(!howling) {
             Networking.sendToNearby(mob.level, mob, new PacketAnimEntity(mob.getId(), EntityChimera.Animations.HOWL.ordinal()));
             ChimeraSummonEvent summonEvent = new ChimeraSummonEvent(40 + mob.getPhase() * 20, mob.getPhase(), mob.level, mob.blockPosition(), this.mob.getId());
-            EventQueue.getServerInstance().addEvent(summonEvent);
+            EventQueue.getLevelQueue(mob.level).addEvent(summonEvent);
             Networking.sendToNearby(mob.level, mob, new PacketTimedEvent(summonEvent));
             mob.level.playSound(null, mob.blockPosition(), SoundEvents.WOLF_HOWL, SoundSource.HOSTILE, 1.0f, 0.2f);
         }
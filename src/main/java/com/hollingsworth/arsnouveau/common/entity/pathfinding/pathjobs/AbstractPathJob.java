@@ -2,6 +2,7 @@ package com.hollingsworth.arsnouveau.common.entity.pathfinding.pathjobs;
 
 import com.hollingsworth.arsnouveau.common.entity.pathfinding.*;
 import com.hollingsworth.arsnouveau.common.util.Log;
+import com.hollingsworth.arsnouveau.common.util.TickProfiler;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.Vec3i;
@@ -137,15 +138,24 @@ public abstract class AbstractPathJob implements Callable<Path> {
      * @param entity the entity.
      */
     public AbstractPathJob(final Level world, final BlockPos start, final BlockPos end, final int range, final PathResult result, final LivingEntity entity) {
-        final int minX = Math.min(start.getX(), end.getX()) - (range / 2);
-        final int minZ = Math.min(start.getZ(), end.getZ()) - (range / 2);
-        final int maxX = Math.max(start.getX(), end.getX()) + (range / 2);
-        final int maxZ = Math.max(start.getZ(), end.getZ()) + (range / 2);
+        this(createChunkCache(world, start, end, range), start, range, result, entity);
+    }
+
+    /**
+     * AbstractPathJob constructor for a prepared view of the world, such as synthetic chunk data in benchmarks.
+     *
+     * @param world  the blocks to path through, only ever read from.
+     * @param start  the start position from which to path from.
+     * @param range  maximum path range.
+     * @param result path result.
+     * @param entity the entity, may be null when nothing depends on it.
+     */
+    public AbstractPathJob(final LevelReader world, final BlockPos start, final int range, final PathResult result, final LivingEntity entity) {
         this.restrictionType = AbstractAdvancedPathNavigate.RestrictionType.NONE;
         this.xzRestricted = false;
         this.hardXzRestriction = false;
 
-        this.world = new ChunkCache(world, new BlockPos(minX,  world.getMinBuildHeight(), minZ), new BlockPos(maxX, world.getMaxBuildHeight(), maxZ), range, world.dimensionType());
+        this.world = world;
 
         this.start = new BlockPos(start);
         this.maxRange = range;
@@ -164,6 +174,14 @@ public abstract class AbstractPathJob implements Callable<Path> {
         this.entity = new WeakReference<>(entity);
     }
 
+    private static ChunkCache createChunkCache(final Level world, final BlockPos start, final BlockPos end, final int range) {
+        final int minX = Math.min(start.getX(), end.getX()) - (range / 2);
+        final int minZ = Math.min(start.getZ(), end.getZ()) - (range / 2);
+        final int maxX = Math.max(start.getX(), end.getX()) + (range / 2);
+        final int maxZ = Math.max(start.getZ(), end.getZ()) + (range / 2);
+        return new ChunkCache(world, new BlockPos(minX,  world.getMinBuildHeight(), minZ), new BlockPos(maxX, world.getMaxBuildHeight(), maxZ), range, world.dimensionType());
+    }
+
     /**
      * AbstractPathJob constructor.
      *
@@ -518,11 +536,14 @@ public abstract class AbstractPathJob implements Callable<Path> {
      */
     @Override
     public final Path call() {
+        final long profileStart = TickProfiler.start();
         try {
             return search();
         } catch (final Exception e) {
             // Log everything, so exceptions of the pathfinding-thread show in Log
             Log.getLogger().warn("Pathfinding Exception", e);
+        } finally {
+            TickProfiler.record(TickProfiler.Category.PATHFINDING, getClass(), start, profileStart);
         }
 
         return null;
@@ -1,10 +1,12 @@
 package com.hollingsworth.arsnouveau.common.entity.pathfinding.pathjobs;
 
 import com.hollingsworth.arsnouveau.common.entity.pathfinding.ModNode;
+import com.hollingsworth.arsnouveau.common.entity.pathfinding.PathResult;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Vec3i;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.pathfinder.Path;
 
 /**
@@ -33,6 +35,21 @@ public class PathJobMoveToLocation extends AbstractPathJob {
         this.destination = new BlockPos(end);
     }
 
+    /**
+     * Prepares the PathJob for a prepared view of the world.
+     *
+     * @param world  blocks to path through.
+     * @param start  starting location.
+     * @param end    target location.
+     * @param range  max search range.
+     * @param entity the entity, may be null.
+     */
+    public PathJobMoveToLocation(final LevelReader world, final BlockPos start, final BlockPos end, final int range, final LivingEntity entity) {
+        super(world, start, range, new PathResult<AbstractPathJob>(), entity);
+
+        this.destination = new BlockPos(end);
+    }
+
     /**
      * Perform the search.
      *
@@ -3,21 +3,27 @@ package com.hollingsworth.arsnouveau.common.event;
 import com.hollingsworth.arsnouveau.ArsNouveau;
 import com.hollingsworth.arsnouveau.api.event.DispelEvent;
 import com.hollingsworth.arsnouveau.api.event.FlightRefreshEvent;
+import com.hollingsworth.arsnouveau.api.spell.GlyphTable;
 import com.hollingsworth.arsnouveau.client.ClientInfo;
 import com.hollingsworth.arsnouveau.client.particle.ParticleUtil;
 import com.hollingsworth.arsnouveau.common.block.LavaLily;
 import com.hollingsworth.arsnouveau.common.command.DataDumpCommand;
+import com.hollingsworth.arsnouveau.common.command.EventQueueCommand;
 import com.hollingsworth.arsnouveau.common.command.PathCommand;
+import com.hollingsworth.arsnouveau.common.command.ProfileCommand;
 import com.hollingsworth.arsnouveau.common.command.ResetCommand;
 import com.hollingsworth.arsnouveau.common.command.ToggleLightCommand;
 import com.hollingsworth.arsnouveau.common.compat.CaelusHandler;
 import com.hollingsworth.arsnouveau.common.items.VoidJar;
+import com.hollingsworth.arsnouveau.common.network.Networking;
+import com.hollingsworth.arsnouveau.common.network.PacketSyncGlyphTable;
 import com.hollingsworth.arsnouveau.common.potions.ModPotions;
 import com.hollingsworth.arsnouveau.common.ritual.RitualFlight;
 import com.hollingsworth.arsnouveau.setup.Config;
 import com.hollingsworth.arsnouveau.setup.ItemsRegistry;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.damagesource.EntityDamageSource;
 import net.minecraft.world.effect.MobEffectInstance;
@@ -43,6 +49,7 @@ import net.minecraftforge.eventbus.api.Event;
 import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.network.PacketDistributor;
 
 
 @Mod.EventBusSubscriber(modid = ArsNouveau.MODID)
@@ -96,6 +103,12 @@ public class EventHandler {
     }
 
 
+    @SubscribeEvent
+    public static void syncGlyphTable(PlayerEvent.PlayerLoggedInEvent e) {
+        if(e.getPlayer() instanceof ServerPlayer player)
+            Networking.INSTANCE.send(PacketDistributor.PLAYER.with(() -> player), new PacketSyncGlyphTable(GlyphTable.getLocal()));
+    }
+
     @SubscribeEvent
     public static void playerLogin(PlayerEvent.PlayerLoggedInEvent e) {
         if(e.getEntityLiving().getCommandSenderWorld().isClientSide || !Config.SPAWN_BOOK.get())
@@ -196,6 +209,8 @@ public class EventHandler {
         DataDumpCommand.register(event.getDispatcher());
         PathCommand.register(event.getDispatcher());
         ToggleLightCommand.register(event.getDispatcher());
+        EventQueueCommand.register(event.getDispatcher());
+        ProfileCommand.register(event.getDispatcher());
     }
 
     private EventHandler(){}
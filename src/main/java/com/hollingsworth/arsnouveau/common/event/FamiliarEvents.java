@@ -9,6 +9,7 @@ import com.hollingsworth.arsnouveau.common.entity.familiar.*;
 import net.minecraftforge.event.entity.living.LivingEntityUseItemEvent;
 import net.minecraftforge.event.entity.living.LootingLevelEvent;
 import net.minecraftforge.event.entity.living.PotionEvent;
+import net.minecraftforge.event.server.ServerStoppingEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 
@@ -19,45 +20,37 @@ import java.util.function.Predicate;
 @Mod.EventBusSubscriber(modid = ArsNouveau.MODID)
 public class FamiliarEvents {
 
+    /**
+     * Visits every registered familiar, prefer {@link FamiliarRegistry#getFamiliars} when the owner is known.
+     */
     public static List<FamiliarEntity> getFamiliars(Predicate<FamiliarEntity> predicate){
-        List<FamiliarEntity> stale = new ArrayList<>();
         List<FamiliarEntity> matching = new ArrayList<>();
-        for(FamiliarEntity familiarEntity : FamiliarEntity.FAMILIAR_SET){
-            if(familiarEntity.isRemoved() || familiarEntity.terminatedFamiliar || familiarEntity.getOwner() == null) {
-                stale.add(familiarEntity);
-            }else if(predicate.test(familiarEntity)){
+        for(FamiliarEntity familiarEntity : FamiliarRegistry.getAll()){
+            if(!familiarEntity.isRemoved() && !familiarEntity.terminatedFamiliar && familiarEntity.getOwner() != null && predicate.test(familiarEntity)){
                 matching.add(familiarEntity);
             }
         }
-        stale.forEach(FamiliarEntity.FAMILIAR_SET::remove);
         return matching;
     }
 
     @SubscribeEvent
     public static void castEvent(SpellCastEvent event) {
-        for(FamiliarEntity entity : getFamiliars((f) -> f instanceof ISpellCastListener)){
-            if(entity instanceof ISpellCastListener){
-                ((ISpellCastListener) entity).onCast(event);
-            }
+        for(ISpellCastListener listener : FamiliarRegistry.getFamiliars(event.getEntity(), ISpellCastListener.class)){
+            listener.onCast(event);
         }
     }
 
     @SubscribeEvent
     public static void summonEvent(FamiliarSummonEvent event) {
-        for(FamiliarEntity entity : getFamiliars((f) -> true)){
-            if(entity.getOwner() != null && entity.getOwner().equals(event.owner)){
-                entity.onFamiliarSpawned(event);
-            }
+        for(FamiliarEntity entity : FamiliarRegistry.getFamiliars(event.owner, FamiliarEntity.class)){
+            entity.onFamiliarSpawned(event);
         }
-
     }
 
     @SubscribeEvent
     public static void maxManaCalc(MaxManaCalcEvent event) {
-        for(FamiliarEntity entity : getFamiliars(familiarEntity -> true)){
-            if(!entity.isAlive())
-                return;
-            if(entity.getOwner() != null && entity.getOwner().equals(event.getEntity())){
+        for(FamiliarEntity entity : FamiliarRegistry.getFamiliars(event.getEntity(), FamiliarEntity.class)){
+            if(entity.isAlive()){
                 event.setMax((int) (event.getMax() -  event.getMax() * entity.getManaReserveModifier()));
             }
         }
@@ -65,46 +58,43 @@ public class FamiliarEvents {
 
     @SubscribeEvent
     public static void spellResolveEvent(SpellModifierEvent event) {
-        for(FamiliarEntity entity : getFamiliars((familiarEntity -> familiarEntity instanceof ISpellCastListener))){
-            if(entity instanceof ISpellCastListener){
-                ((ISpellCastListener) entity).onModifier(event);
-            }
+        for(ISpellCastListener listener : FamiliarRegistry.getFamiliars(event.caster, ISpellCastListener.class)){
+            listener.onModifier(event);
         }
     }
 
     @SubscribeEvent
     public static void modifierEvent(SpellModifierEvent event) {
-        for(FamiliarEntity entity :getFamiliars((familiarEntity -> familiarEntity instanceof ISpellCastListener))){
-            if(entity instanceof ISpellCastListener){
-                ((ISpellCastListener) entity).onModifier(event);
-            }
+        for(ISpellCastListener listener : FamiliarRegistry.getFamiliars(event.caster, ISpellCastListener.class)){
+            listener.onModifier(event);
         }
     }
 
     @SubscribeEvent
     public static void fortuneEvent(LootingLevelEvent event) {
-        for(FamiliarEntity entity : getFamiliars((familiarEntity -> familiarEntity instanceof FamiliarDrygmy))) {
-            if(entity instanceof FamiliarDrygmy){
-                ((FamiliarDrygmy) entity).onLootingEvent(event);
-            }
+        if(event.getDamageSource() == null)
+            return;
+        for(FamiliarDrygmy drygmy : FamiliarRegistry.getFamiliars(event.getDamageSource().getEntity(), FamiliarDrygmy.class)) {
+            drygmy.onLootingEvent(event);
         }
     }
 
     @SubscribeEvent
     public static void eatEvent(LivingEntityUseItemEvent.Finish event) {
-        for(FamiliarEntity entity : getFamiliars((familiarEntity -> familiarEntity instanceof FamiliarWhirlisprig))){
-            if(entity instanceof FamiliarWhirlisprig){
-                ((FamiliarWhirlisprig) entity).eatEvent(event);
-            }
+        for(FamiliarWhirlisprig whirlisprig : FamiliarRegistry.getFamiliars(event.getEntity(), FamiliarWhirlisprig.class)){
+            whirlisprig.eatEvent(event);
         }
     }
 
     @SubscribeEvent
     public static void potionEvent(PotionEvent.PotionAddedEvent event) {
-        for(FamiliarEntity entity : getFamiliars((familiarEntity -> familiarEntity instanceof FamiliarWixie))){
-            if(entity instanceof FamiliarWixie){
-                ((FamiliarWixie) entity).potionEvent(event);
-            }
+        for(FamiliarWixie wixie : FamiliarRegistry.getFamiliars(event.getEntity(), FamiliarWixie.class)){
+            wixie.potionEvent(event);
         }
     }
+
+    @SubscribeEvent
+    public static void serverStopping(ServerStoppingEvent event) {
+        FamiliarRegistry.clear();
+    }
 }
@@ -1,51 +1,129 @@
 package com.hollingsworth.arsnouveau.common.event;
 
 import com.hollingsworth.arsnouveau.ArsNouveau;
+import com.hollingsworth.arsnouveau.api.spell.Spell;
 import com.hollingsworth.arsnouveau.common.enchantment.EnchantmentRegistry;
 import com.hollingsworth.arsnouveau.common.network.Networking;
 import com.hollingsworth.arsnouveau.common.network.PacketReactiveSpell;
 import com.hollingsworth.arsnouveau.common.spell.casters.ReactiveCaster;
+import net.minecraft.nbt.Tag;
 import net.minecraft.world.InteractionHand;
+import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.enchantment.EnchantmentHelper;
+import net.minecraftforge.event.entity.living.LivingEquipmentChangeEvent;
 import net.minecraftforge.event.entity.living.LivingHurtEvent;
 import net.minecraftforge.event.entity.player.AttackEntityEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
+import net.minecraftforge.event.server.ServerStoppingEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 
+import javax.annotation.Nullable;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
 @Mod.EventBusSubscriber(modid = ArsNouveau.MODID)
 public class ReactiveEvents {
 
+    // Decoded reactive spells per player and equipment slot, refreshed when the slot holds a different stack or spell
+    private static final Map<UUID, Map<EquipmentSlot, ReactiveSpell>> REACTIVE_CACHE = new HashMap<>();
+
     @SubscribeEvent
     public static void livingHitEvent(LivingHurtEvent e){
         LivingEntity entity = e.getEntityLiving();
-        if(entity.getCommandSenderWorld().isClientSide || !(entity instanceof Player))
+        if(entity.getCommandSenderWorld().isClientSide || !(entity instanceof Player player))
             return;
 
-        for(ItemStack s : entity.getArmorSlots()){
-            castSpell((Player) entity, s);
+        for(EquipmentSlot slot : EquipmentSlot.values()){
+            if(slot.getType() == EquipmentSlot.Type.ARMOR)
+                castSpell(player, slot);
         }
     }
 
-    public static void castSpell(Player playerIn, ItemStack s){
+    public static void castSpell(Player playerIn, EquipmentSlot slot){
+        ReactiveSpell reactiveSpell = getReactiveSpell(playerIn, slot);
+        if(reactiveSpell.caster() != null && reactiveSpell.level() * .25 >= Math.random()){
+            // Cast the caster's own spell so its slot is found, but undo cost changes made by listeners such as familiars
+            Spell spell = reactiveSpell.caster().getSpell();
+            int cost = spell.getCastingCost();
+            try{
+                reactiveSpell.caster().castSpell(playerIn.getCommandSenderWorld(), playerIn, InteractionHand.MAIN_HAND, null);
+            }finally {
+                spell.setCost(cost);
+            }
+        }
+    }
 
+    /**
+     * Uncached variant for stacks that are not equipped, prefer {@link #castSpell(Player, EquipmentSlot)}.
+     */
+    public static void castSpell(Player playerIn, ItemStack s){
         if(EnchantmentHelper.getItemEnchantmentLevel(EnchantmentRegistry.REACTIVE_ENCHANTMENT, s) * .25 >= Math.random() && new ReactiveCaster(s).getSpell().isValid()){
             ReactiveCaster reactiveCaster = new ReactiveCaster(s);
             reactiveCaster.castSpell(playerIn.getCommandSenderWorld(), playerIn, InteractionHand.MAIN_HAND, null);
         }
     }
 
+    public static ReactiveSpell getReactiveSpell(Player player, EquipmentSlot slot){
+        ItemStack stack = player.getItemBySlot(slot);
+        Map<EquipmentSlot, ReactiveSpell> slots = REACTIVE_CACHE.computeIfAbsent(player.getUUID(), k -> new EnumMap<>(EquipmentSlot.class));
+        ReactiveSpell cached = slots.get(slot);
+        // Equipment change events lag a tick behind, so a different stack in the slot is caught here
+        if(cached != null && cached.stack() == stack)
+            return cached;
+        ReactiveSpell decoded = ReactiveSpell.decode(stack);
+        slots.put(slot, decoded);
+        return decoded;
+    }
+
+    /**
+     * Armor losing durability also fires this event, so only evict when the item or its reactive spell changed.
+     */
+    @SubscribeEvent
+    public static void equipmentChange(LivingEquipmentChangeEvent e){
+        if(e.getEntityLiving() instanceof Player player && !player.level.isClientSide && !isSameReactive(e.getFrom(), e.getTo())){
+            Map<EquipmentSlot, ReactiveSpell> slots = REACTIVE_CACHE.get(player.getUUID());
+            if(slots != null)
+                slots.remove(e.getSlot());
+        }
+    }
+
+    private static boolean isSameReactive(ItemStack from, ItemStack to){
+        return from.getItem() == to.getItem()
+                && Objects.equals(getTag(from, ReactiveCaster.TAG), getTag(to, ReactiveCaster.TAG))
+                && Objects.equals(getTag(from, ItemStack.TAG_ENCH), getTag(to, ItemStack.TAG_ENCH));
+    }
+
+    @Nullable
+    private static Tag getTag(ItemStack stack, String key){
+        return stack.getTag() == null ? null : stack.getTag().get(key);
+    }
+
+    @SubscribeEvent
+    public static void playerLogout(PlayerEvent.PlayerLoggedOutEvent e){
+        REACTIVE_CACHE.remove(e.getPlayer().getUUID());
+    }
+
+    @SubscribeEvent
+    public static void serverStopping(ServerStoppingEvent e){
+        REACTIVE_CACHE.clear();
+    }
+
     @SubscribeEvent
     public static void leftClickBlock(PlayerInteractEvent.LeftClickBlock e){
         Player entity = e.getPlayer();
 
         if(entity.getCommandSenderWorld().isClientSide)
             return;
-        ItemStack s = e.getItemStack();
-        castSpell(entity, s);
+        EquipmentSlot slot = e.getHand() == InteractionHand.MAIN_HAND ? EquipmentSlot.MAINHAND : EquipmentSlot.OFFHAND;
+        castSpell(entity, slot);
     }
 
     @SubscribeEvent
@@ -54,8 +132,7 @@ public class ReactiveEvents {
 
         if(entity == null || entity.getCommandSenderWorld().isClientSide || !(entity instanceof Player))
             return;
-        ItemStack s = e.getEntityLiving().getMainHandItem();
-        castSpell((Player) entity, s);
+        castSpell((Player) entity, EquipmentSlot.MAINHAND);
     }
 
 
@@ -64,4 +141,17 @@ public class ReactiveEvents {
         if(EnchantmentHelper.getItemEnchantmentLevel(EnchantmentRegistry.REACTIVE_ENCHANTMENT, e.getItemStack()) > 0)
             Networking.INSTANCE.sendToServer(new PacketReactiveSpell());
     }
+
+    /**
+     * A reactive stack decoded once: its enchantment level and, if it holds a valid spell, the caster.
+     */
+    public record ReactiveSpell(ItemStack stack, int level, @Nullable ReactiveCaster caster){
+        static ReactiveSpell decode(ItemStack stack){
+            int level = EnchantmentHelper.getItemEnchantmentLevel(EnchantmentRegistry.REACTIVE_ENCHANTMENT, stack);
+            if(level <= 0)
+                return new ReactiveSpell(stack, level, null);
+            ReactiveCaster caster = new ReactiveCaster(stack);
+            return new ReactiveSpell(stack, level, caster.getSpell().isValid() ? caster : null);
+        }
+    }
 }
@@ -4,6 +4,7 @@ import com.hollingsworth.arsnouveau.ArsNouveau;
 import com.hollingsworth.arsnouveau.api.ArsNouveauAPI;
 import com.hollingsworth.arsnouveau.api.ritual.IScryer;
 import com.hollingsworth.arsnouveau.client.ClientInfo;
+import com.hollingsworth.arsnouveau.client.ScryScanner;
 import com.hollingsworth.arsnouveau.client.particle.GlowParticleData;
 import com.hollingsworth.arsnouveau.client.particle.ParticleColor;
 import com.hollingsworth.arsnouveau.client.particle.ParticleUtil;
@@ -13,23 +14,19 @@ import com.hollingsworth.arsnouveau.common.potions.ModPotions;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.Vec3i;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.client.event.RenderLevelLastEvent;
 import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.world.ChunkEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.LogicalSide;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.network.PacketDistributor;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import static com.hollingsworth.arsnouveau.api.util.DropDistribution.rand;
 
 @Mod.EventBusSubscriber(value = Dist.CLIENT, modid = ArsNouveau.MODID)
@@ -44,32 +41,29 @@ public class ScryEvents {
 
     @SubscribeEvent
     public static void playerTickEvent(final TickEvent.PlayerTickEvent event){
-        if(event.side == LogicalSide.CLIENT && event.phase == TickEvent.Phase.END && event.player.getEffect(ModPotions.SCRYING_EFFECT) != null && ClientInfo.ticksInGame % 30 == 0){
-
-            List<BlockPos> scryingPos = new ArrayList<>();
+        if(event.side == LogicalSide.CLIENT && event.phase == TickEvent.Phase.END && ClientInfo.ticksInGame % 30 == 0){
+            if(event.player.getEffect(ModPotions.SCRYING_EFFECT) == null){
+                if(!ClientInfo.scryingPositions.isEmpty())
+                    ScryScanner.clear();
+                return;
+            }
             CompoundTag tag = ClientInfo.persistentData;
             if(!tag.contains("an_scryer"))
                 return;
-            IScryer scryer = ArsNouveauAPI.getInstance().getScryer(tag.getCompound("an_scryer").getString("id")).fromTag(tag.getCompound("an_scryer"));
+            CompoundTag scryerTag = tag.getCompound("an_scryer");
+            IScryer scryer = ArsNouveauAPI.getInstance().getScryer(scryerTag.getString("id")).fromTag(scryerTag);
             if(scryer == null)
                 return;
-            Player playerEntity = event.player;
-            Level world = playerEntity.level;
-            Vec3i scrySize = scryer.getScryingSize();
-            for(BlockPos p : BlockPos.withinManhattan(playerEntity.blockPosition(), scrySize.getX(), scrySize.getY(), scrySize.getZ())){
-                if(world.isOutsideBuildHeight(p) || world.getBlockState(p).isAir())
-                    continue;
-                if(scryingPos.size() >= scryer.getScryMax())
-                    break;
-
-                if(scryer.shouldRevealBlock(world.getBlockState(p), p, playerEntity)) {
-                    scryingPos.add(new BlockPos(p));
-                }
-            }
-            ClientInfo.scryingPositions = scryingPos;
+            ScryScanner.scan(event.player, scryer, scryerTag);
         }
     }
 
+    @SubscribeEvent
+    public static void chunkLoad(final ChunkEvent.Load event){
+        if(event.getWorld() != null && event.getWorld().isClientSide())
+            ScryScanner.onChunkLoaded(event.getChunk().getPos());
+    }
+
     @SubscribeEvent
     public static void onRenderWorldLast(final RenderLevelLastEvent event)
     {
@@ -0,0 +1,278 @@
+package com.hollingsworth.arsnouveau.common.gametest;
+
+import com.hollingsworth.arsnouveau.ArsNouveau;
+import com.hollingsworth.arsnouveau.api.source.AbstractSourceMachine;
+import com.hollingsworth.arsnouveau.api.spell.Spell;
+import com.hollingsworth.arsnouveau.api.spell.SpellContext;
+import com.hollingsworth.arsnouveau.api.spell.SpellResolver;
+import com.hollingsworth.arsnouveau.common.block.BasicSpellTurret;
+import com.hollingsworth.arsnouveau.common.block.tile.*;
+import com.hollingsworth.arsnouveau.common.entity.EntityLingeringSpell;
+import com.hollingsworth.arsnouveau.common.entity.EntityWixie;
+import com.hollingsworth.arsnouveau.common.entity.Starbuncle;
+import com.hollingsworth.arsnouveau.common.spell.effect.EffectHarm;
+import com.hollingsworth.arsnouveau.common.spell.effect.EffectSlowfall;
+import com.hollingsworth.arsnouveau.common.spell.method.MethodTouch;
+import com.hollingsworth.arsnouveau.setup.BlockRegistry;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestAssertException;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.world.Container;
+import net.minecraft.world.effect.MobEffects;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.animal.Pig;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.phys.AABB;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Worst case builds for the subsystems that scale with base size. Each test checks that the build still does its job
+ * after a fixed number of ticks and that the server's average tick time stayed under budget. Tests run in their own
+ * batch so the tick average only covers one build.
+ *
+ * Run with ./gradlew runGameTestServer. The budget can be changed with -Dars_nouveau.gametest.tickBudgetMs.
+ */
+@GameTestHolder(ArsNouveau.MODID)
+@PrefixGameTestTemplate(false)
+public class LoadGameTests {
+    private static final String ARENA = "gametest/load_arena";
+    private static final float TICK_BUDGET_MS = Float.parseFloat(System.getProperty("ars_nouveau.gametest.tickBudgetMs", "50"));
+
+    /**
+     * Rows of full jars drained through two relay hops into empty jars. No source may be created or lost.
+     */
+    @GameTest(template = ARENA, batch = "load_relays", timeoutTicks = 400)
+    public static void relayMesh(GameTestHelper helper){
+        int rows = 24;
+        List<BlockPos> machines = new ArrayList<>();
+        List<BlockPos> sinks = new ArrayList<>();
+        for(int i = 0; i < rows; i++){
+            BlockPos source = new BlockPos(1 + i, 1, 2);
+            BlockPos first = new BlockPos(1 + i, 1, 10);
+            BlockPos second = new BlockPos(1 + i, 1, 18);
+            BlockPos sink = new BlockPos(1 + i, 1, 26);
+            helper.setBlock(source, BlockRegistry.SOURCE_JAR);
+            helper.setBlock(first, BlockRegistry.RELAY);
+            helper.setBlock(second, BlockRegistry.RELAY);
+            helper.setBlock(sink, BlockRegistry.SOURCE_JAR);
+            SourceJarTile jar = helper.getBlockEntity(source);
+            jar.setSource(jar.getMaxSource());
+            RelayTile firstRelay = helper.getBlockEntity(first);
+            firstRelay.setTakeFrom(helper.absolutePos(source));
+            firstRelay.setSendTo(helper.absolutePos(second));
+            RelayTile secondRelay = helper.getBlockEntity(second);
+            secondRelay.setSendTo(helper.absolutePos(sink));
+            machines.add(source);
+            machines.add(first);
+            machines.add(second);
+            machines.add(sink);
+            sinks.add(sink);
+        }
+        int expected = rows * 10000;
+        helper.runAtTickTime(300, () -> {
+            int total = 0;
+            for(BlockPos pos : machines){
+                total += helper.<AbstractSourceMachine>getBlockEntity(pos).getSource();
+            }
+            check(total == expected, "Source not conserved, expected " + expected + " but found " + total);
+            for(BlockPos sink : sinks){
+                check(helper.<SourceJarTile>getBlockEntity(sink).getSource() > 0, "No source reached the jar at " + sink.toShortString());
+            }
+            checkTickBudget(helper);
+            helper.succeed();
+        });
+    }
+
+    /**
+     * Starbuncles each moving cobblestone between their own pair of chests on opposite sides of the arena.
+     */
+    @GameTest(template = ARENA, batch = "load_starbuncles", timeoutTicks = 900)
+    public static void starbuncleFleet(GameTestHelper helper){
+        int fleet = 16;
+        List<BlockPos> chests = new ArrayList<>();
+        List<Starbuncle> starbuncles = new ArrayList<>();
+        for(int i = 0; i < fleet; i++){
+            BlockPos from = new BlockPos(2 + i, 1, 2);
+            BlockPos to = new BlockPos(2 + i, 1, 28);
+            helper.setBlock(from, Blocks.CHEST);
+            helper.setBlock(to, Blocks.CHEST);
+            Container fromChest = helper.getBlockEntity(from);
+            for(int slot = 0; slot < 4; slot++){
+                fromChest.setItem(slot, new ItemStack(Items.COBBLESTONE, 64));
+            }
+            Starbuncle starbuncle = new Starbuncle(helper.getLevel(), true);
+            BlockPos spawn = helper.absolutePos(new BlockPos(2 + i, 1, 15));
+            starbuncle.setPos(spawn.getX() + 0.5, spawn.getY(), spawn.getZ() + 0.5);
+            starbuncle.setFromPos(helper.absolutePos(from));
+            starbuncle.setToPos(helper.absolutePos(to));
+            helper.getLevel().addFreshEntity(starbuncle);
+            starbuncles.add(starbuncle);
+            chests.add(from);
+            chests.add(to);
+        }
+        int expected = fleet * 4 * 64;
+        helper.runAtTickTime(800, () -> {
+            int total = 0;
+            int delivered = 0;
+            for(int i = 0; i < chests.size(); i++){
+                int count = countItem(helper.getBlockEntity(chests.get(i)), Items.COBBLESTONE);
+                total += count;
+                if(i % 2 == 1)
+                    delivered += count;
+            }
+            for(Starbuncle starbuncle : starbuncles){
+                total += starbuncle.getHeldStack().getCount();
+            }
+            for(ItemEntity item : helper.getLevel().getEntitiesOfClass(ItemEntity.class, arenaBounds(helper))){
+                total += item.getItem().getCount();
+            }
+            check(total == expected, "Items not conserved, expected " + expected + " but found " + total);
+            check(delivered > 0, "No Starbuncle delivered any items");
+            checkTickBudget(helper);
+            helper.succeed();
+        });
+    }
+
+    /**
+     * Bound cauldrons crafting sticks from a shared chest of planks and a shared source jar.
+     */
+    @GameTest(template = ARENA, batch = "load_wixies", timeoutTicks = 900)
+    public static void wixieFarm(GameTestHelper helper){
+        BlockPos chest = new BlockPos(15, 1, 15);
+        BlockPos jar = new BlockPos(16, 1, 15);
+        helper.setBlock(chest, Blocks.CHEST);
+        helper.setBlock(jar, BlockRegistry.SOURCE_JAR);
+        Container planks = helper.getBlockEntity(chest);
+        for(int slot = 0; slot < planks.getContainerSize(); slot++){
+            planks.setItem(slot, new ItemStack(Items.OAK_PLANKS, 64));
+        }
+        SourceJarTile jarTile = helper.getBlockEntity(jar);
+        jarTile.setSource(jarTile.getMaxSource());
+
+        List<BlockPos> cauldrons = List.of(new BlockPos(12, 1, 12), new BlockPos(19, 1, 12), new BlockPos(12, 1, 19), new BlockPos(19, 1, 19));
+        for(BlockPos pos : cauldrons){
+            helper.setBlock(pos, BlockRegistry.WIXIE_CAULDRON.defaultBlockState().setValue(SummoningTile.CONVERTED, true));
+            WixieCauldronTile cauldron = helper.getBlockEntity(pos);
+            cauldron.converted = true;
+            BlockPos absolute = helper.absolutePos(pos);
+            EntityWixie wixie = new EntityWixie(helper.getLevel(), true, absolute);
+            wixie.setPos(absolute.getX() + 0.5, absolute.getY() + 1.0, absolute.getZ() + 0.5);
+            helper.getLevel().addFreshEntity(wixie);
+            cauldron.entityID = wixie.getId();
+            cauldron.setRecipes(null, new ItemStack(Items.STICK));
+        }
+        helper.runAtTickTime(800, () -> {
+            int sticks = 0;
+            for(ItemEntity item : helper.getLevel().getEntitiesOfClass(ItemEntity.class, arenaBounds(helper))){
+                if(item.getItem().is(Items.STICK))
+                    sticks += item.getItem().getCount();
+            }
+            check(sticks > 0, "No cauldron completed a craft");
+            check(countItem(planks, Items.OAK_PLANKS) < planks.getContainerSize() * 64, "No planks were consumed");
+            checkTickBudget(helper);
+            helper.succeed();
+        });
+    }
+
+    /**
+     * Timer turrets firing touch spells into the floor, all drawing from one jar. Each shot must cost exactly the
+     * turret's discounted spell cost.
+     */
+    @GameTest(template = ARENA, batch = "load_turrets", timeoutTicks = 400)
+    public static void turretClocks(GameTestHelper helper){
+        BlockPos jar = new BlockPos(16, 1, 16);
+        helper.setBlock(jar, BlockRegistry.SOURCE_JAR);
+        SourceJarTile jarTile = helper.getBlockEntity(jar);
+        jarTile.setSource(jarTile.getMaxSource());
+        int turrets = 0;
+        int costPerShot = 0;
+        for(int x = 10; x <= 22; x += 3){
+            for(int z = 10; z <= 22; z += 3){
+                BlockPos pos = new BlockPos(x, 2, z);
+                if(pos.below().equals(jar))
+                    continue;
+                helper.setBlock(pos, BlockRegistry.TIMER_SPELL_TURRET.defaultBlockState().setValue(BasicSpellTurret.FACING, Direction.DOWN));
+                TimerSpellTurretTile turret = helper.getBlockEntity(pos);
+                turret.spellCaster.setSpell(new Spell(MethodTouch.INSTANCE, EffectHarm.INSTANCE));
+                costPerShot = turret.getManaCost();
+                turrets++;
+            }
+        }
+        int cost = costPerShot;
+        int turretCount = turrets;
+        helper.runAtTickTime(300, () -> {
+            int spent = jarTile.getMaxSource() - jarTile.getSource();
+            check(cost > 0 && spent % cost == 0, "Turrets spent " + spent + " source, not a multiple of the " + cost + " per shot");
+            int shots = spent / cost;
+            // Every turret fires once per second, allow for the shot in flight at either end of the window
+            check(shots >= turretCount * 13, "Only " + shots + " shots from " + turretCount + " turrets");
+            checkTickBudget(helper);
+            helper.succeed();
+        });
+    }
+
+    /**
+     * Overlapping lingering spells over a pen of pigs. Every pig must end up affected.
+     */
+    @GameTest(template = ARENA, batch = "load_lingering", timeoutTicks = 300)
+    public static void lingeringField(GameTestHelper helper){
+        List<Pig> pigs = new ArrayList<>();
+        for(int x = 4; x < 28; x += 3){
+            for(int z = 4; z < 28; z += 3){
+                pigs.add(helper.spawnWithNoFreeWill(EntityType.PIG, new BlockPos(x, 1, z)));
+            }
+        }
+        for(int x = 4; x < 28; x += 4){
+            for(int z = 4; z < 28; z += 4){
+                BlockPos pos = helper.absolutePos(new BlockPos(x, 1, z));
+                EntityLingeringSpell linger = new EntityLingeringSpell(helper.getLevel(), pos.getX() + 0.5, pos.getY(), pos.getZ() + 0.5);
+                linger.spellResolver = new SpellResolver(new SpellContext(new Spell(EffectSlowfall.INSTANCE), null));
+                linger.extendedTime = 10;
+                linger.setAoe(3);
+                helper.getLevel().addFreshEntity(linger);
+            }
+        }
+        helper.runAtTickTime(200, () -> {
+            for(Pig pig : pigs){
+                check(pig.hasEffect(MobEffects.SLOW_FALLING), "Pig at " + pig.blockPosition().toShortString() + " was never hit");
+            }
+            check(!helper.getLevel().getEntitiesOfClass(EntityLingeringSpell.class, arenaBounds(helper)).isEmpty(), "Lingering spells expired early");
+            checkTickBudget(helper);
+            helper.succeed();
+        });
+    }
+
+    private static void check(boolean condition, String message){
+        if(!condition)
+            throw new GameTestAssertException(message);
+    }
+
+    private static void checkTickBudget(GameTestHelper helper){
+        float average = helper.getLevel().getServer().getAverageTickTime();
+        check(average <= TICK_BUDGET_MS, "Average tick took " + average + " ms, over the " + TICK_BUDGET_MS + " ms budget");
+    }
+
+    private static int countItem(Container container, Item item){
+        int count = 0;
+        for(int slot = 0; slot < container.getContainerSize(); slot++){
+            ItemStack stack = container.getItem(slot);
+            if(stack.is(item))
+                count += stack.getCount();
+        }
+        return count;
+    }
+
+    private static AABB arenaBounds(GameTestHelper helper){
+        return new AABB(helper.absolutePos(BlockPos.ZERO), helper.absolutePos(new BlockPos(32, 8, 32)));
+    }
+}
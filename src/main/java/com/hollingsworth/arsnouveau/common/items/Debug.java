@@ -32,7 +32,7 @@ public class Debug extends ModItem{
                     double distance = BlockUtil.distanceFrom(p, context.getClickedPos());
                     int time = (int) (40 + distance * 5 + context.getLevel().random.nextInt(10));
                     EruptionEvent event = new EruptionEvent(context.getLevel(), p.immutable(), time, (int) (distance*2));
-                    EventQueue.getServerInstance().addEvent(event);
+                    EventQueue.getLevelQueue(context.getLevel()).addEvent(event);
                     Networking.sendToNearby(context.getLevel(), context.getClickedPos(), new PacketTimedEvent(event.serialize(new CompoundTag())));
                 }
             }
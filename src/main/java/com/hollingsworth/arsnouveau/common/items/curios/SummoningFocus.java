@@ -1,7 +1,7 @@
 package com.hollingsworth.arsnouveau.common.items.curios;
 
 import com.hollingsworth.arsnouveau.ArsNouveau;
-import com.hollingsworth.arsnouveau.api.entity.ISummon;
+import com.hollingsworth.arsnouveau.api.entity.SummonRegistry;
 import com.hollingsworth.arsnouveau.api.event.SpellCastEvent;
 import com.hollingsworth.arsnouveau.api.event.SummonEvent;
 import com.hollingsworth.arsnouveau.api.item.ISpellModifierItem;
@@ -87,8 +87,9 @@ public class SummoningFocus extends ModItem implements ISpellModifierItem {
     public static void castSpell(SpellCastEvent event){
         if(!event.getWorld().isClientSide && event.getEntity() instanceof Player &&  SummoningFocus.containsThis(event.getWorld(), event.getEntityLiving())){
             if(event.spell.getCastMethod() != null && sympatheticMethods.contains(event.spell.getCastMethod())){
-                for(LivingEntity i : event.getWorld().getEntitiesOfClass(LivingEntity.class, new AABB(event.getEntityLiving().blockPosition()).inflate(30), (l) -> l instanceof ISummon)){
-                    if(event.getEntityLiving().equals(((ISummon) i).getOwner((ServerLevel) event.getWorld()))){
+                AABB range = new AABB(event.getEntityLiving().blockPosition()).inflate(30);
+                for(LivingEntity i : SummonRegistry.getSummons(event.getWorld(), event.getEntityLiving().getUUID())){
+                    if(i.getBoundingBox().intersects(range)){
                         EntitySpellResolver spellResolver = new EntitySpellResolver(new SpellContext(event.spell, i).withColors(event.context.colors));
                         spellResolver.onCast(ItemStack.EMPTY, i, i.level);
                     }
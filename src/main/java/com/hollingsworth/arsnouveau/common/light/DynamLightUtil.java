@@ -1,15 +1,24 @@
 package com.hollingsworth.arsnouveau.common.light;
 
 import com.hollingsworth.arsnouveau.setup.Config;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.level.ItemLike;
 
 import java.util.function.Function;
 
 public class DynamLightUtil {
+    private static final int UNCACHED = -2;
+    private static final int NOT_CONFIGURED = -1;
 
+    // Config lookups by registry name are too slow for every entity tick, so resolve them once per Item and EntityType.
+    // Swapped out rather than cleared, as config reloads happen off the client thread.
+    private static volatile Object2IntOpenHashMap<Item> itemLightCache = newCache();
+    private static volatile Object2IntOpenHashMap<EntityType<?>> entityLightCache = newCache();
 
     public static int getSectionCoord(double coord) {
         return getSectionCoord(Mth.floor(coord));
@@ -23,8 +32,9 @@ public class DynamLightUtil {
         int level = 0;
         if(entity.isOnFire())
             return 15;
-        if(Config.ENTITY_LIGHT_MAP.containsKey(entity.getType().getRegistryName()))
-            return Config.ENTITY_LIGHT_MAP.get(entity.getType().getRegistryName());
+        int configured = getConfiguredEntityLight(entity.getType());
+        if(configured != NOT_CONFIGURED)
+            return configured;
         if(LightManager.getLightRegistry().containsKey(entity.getType())){
             for(Function<Entity, Integer> function : LightManager.getLightRegistry().get(entity.getType())){
                 int val = function.apply(entity);
@@ -35,12 +45,12 @@ public class DynamLightUtil {
     }
 
     public static boolean couldGiveLight(Entity entity){
-        return LightManager.getLightRegistry().containsKey(entity.getType()) || Config.ENTITY_LIGHT_MAP.containsKey(entity.getType().getRegistryName()) || (entity instanceof Player player && getPlayerLight(player) > 0);
+        return LightManager.containsEntity(entity.getType()) || (entity instanceof Player player && getPlayerLight(player) > 0);
     }
 
     public static int getPlayerLight(Player player){
-        int mainLight = Config.ITEM_LIGHTMAP.getOrDefault(player.getMainHandItem().getItem().getRegistryName(), 0);
-        int offHandLight = Config.ITEM_LIGHTMAP.getOrDefault(player.getOffhandItem().getItem().getRegistryName(), 0);
+        int mainLight = fromItemLike(player.getMainHandItem().getItem());
+        int offHandLight = fromItemLike(player.getOffhandItem().getItem());
         return Math.max(mainLight, offHandLight);
     }
 
@@ -58,7 +68,37 @@ public class DynamLightUtil {
     }
 
     public static int fromItemLike(ItemLike itemLike){
-        return Config.ITEM_LIGHTMAP.getOrDefault(itemLike.asItem().getRegistryName(), 0);
+        Item item = itemLike.asItem();
+        Object2IntOpenHashMap<Item> cache = itemLightCache;
+        int light = cache.getInt(item);
+        if(light == UNCACHED){
+            light = Config.ITEM_LIGHTMAP.getOrDefault(item.getRegistryName(), 0);
+            cache.put(item, light);
+        }
+        return light;
+    }
+
+    /**
+     * @return the luminance set for this type in the entity light config, or -1 if it has none.
+     */
+    public static int getConfiguredEntityLight(EntityType<?> type){
+        Object2IntOpenHashMap<EntityType<?>> cache = entityLightCache;
+        int light = cache.getInt(type);
+        if(light == UNCACHED){
+            light = Config.ENTITY_LIGHT_MAP.getOrDefault(type.getRegistryName(), NOT_CONFIGURED);
+            cache.put(type, light);
+        }
+        return light;
     }
 
+    public static void invalidateCaches(){
+        itemLightCache = newCache();
+        entityLightCache = newCache();
+    }
+
+    private static <T> Object2IntOpenHashMap<T> newCache(){
+        Object2IntOpenHashMap<T> map = new Object2IntOpenHashMap<>();
+        map.defaultReturnValue(UNCACHED);
+        return map;
+    }
 }
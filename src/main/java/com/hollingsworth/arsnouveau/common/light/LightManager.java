@@ -5,11 +5,15 @@ import com.hollingsworth.arsnouveau.common.entity.EnchantedFallingBlock;
 import com.hollingsworth.arsnouveau.common.entity.ModEntities;
 import com.hollingsworth.arsnouveau.setup.Config;
 import com.hollingsworth.arsnouveau.setup.ItemsRegistry;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.LevelRenderer;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.NonNullList;
+import net.minecraft.core.SectionPos;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntityType;
@@ -35,10 +39,11 @@ public class LightManager {
 
     private final static Set<LambDynamicLight> dynamicLightSources = new HashSet<>();
     private final static ReentrantReadWriteLock lightSourcesLock = new ReentrantReadWriteLock();
+    private final static LongOpenHashSet pendingRebuilds = new LongOpenHashSet();
 
     public static long lastUpdate = System.currentTimeMillis();
 
-    public static List<Integer> jarHoldingEntityList = new ArrayList<>();
+    public static IntSet jarHoldingEntityList = new IntOpenHashSet();
     public static int lastUpdateCount = 0;
     private static Map<EntityType<? extends Entity>, List<Function<Entity, Integer>>> LIGHT_REGISTRY = new HashMap<>();
 
@@ -109,7 +114,7 @@ public class LightManager {
     }
 
     public static boolean containsEntity(EntityType<? extends Entity> type){
-        return LIGHT_REGISTRY.containsKey(type) || Config.ENTITY_LIGHT_MAP.containsKey(type.getRegistryName());
+        return LIGHT_REGISTRY.containsKey(type) || DynamLightUtil.getConfiguredEntityLight(type) >= 0;
     }
 
     /**
@@ -200,7 +205,8 @@ public class LightManager {
                 it.lambdynlights$scheduleTrackedChunksRebuild(Minecraft.getInstance().levelRenderer);
             }
         }
-        LightManager.jarHoldingEntityList = new ArrayList<>();
+        LightManager.jarHoldingEntityList = new IntOpenHashSet();
+        pendingRebuilds.clear();
 
         lightSourcesLock.writeLock().unlock();
     }
@@ -228,7 +234,41 @@ public class LightManager {
 
     public static void scheduleChunkRebuild(@NotNull LevelRenderer renderer, int x, int y, int z) {
         if (Minecraft.getInstance().level != null)
-           renderer.setSectionDirty(x, y, z);
+            pendingRebuilds.add(SectionPos.asLong(x, y, z));
+    }
+
+    /**
+     * Marks the pending sections dirty, nearest to the camera first, up to the per frame budget.
+     * Requests for the same section are coalesced and anything over budget waits for the next frame.
+     *
+     * @param renderer the renderer
+     */
+    public static void flushChunkRebuilds(@NotNull LevelRenderer renderer) {
+        if (pendingRebuilds.isEmpty() || Minecraft.getInstance().level == null)
+            return;
+        int budget = Config.DYNAMIC_LIGHT_REBUILD_BUDGET.get();
+        if (pendingRebuilds.size() <= budget) {
+            for (long pos : pendingRebuilds) {
+                renderer.setSectionDirty(SectionPos.x(pos), SectionPos.y(pos), SectionPos.z(pos));
+            }
+            pendingRebuilds.clear();
+            return;
+        }
+        SectionPos camera = SectionPos.of(Minecraft.getInstance().gameRenderer.getMainCamera().getBlockPosition());
+        LongArrayList sorted = new LongArrayList(pendingRebuilds);
+        sorted.sort((long a, long b) -> Integer.compare(sectionDistance(a, camera), sectionDistance(b, camera)));
+        for (int i = 0; i < budget; i++) {
+            long pos = sorted.getLong(i);
+            renderer.setSectionDirty(SectionPos.x(pos), SectionPos.y(pos), SectionPos.z(pos));
+            pendingRebuilds.remove(pos);
+        }
+    }
+
+    private static int sectionDistance(long pos, SectionPos camera) {
+        int dx = SectionPos.x(pos) - camera.x();
+        int dy = SectionPos.y(pos) - camera.y();
+        int dz = SectionPos.z(pos) - camera.z();
+        return dx * dx + dy * dy + dz * dz;
     }
     /**
      * Updates all light sources.
@@ -249,6 +289,7 @@ public class LightManager {
             }
         }
         lightSourcesLock.readLock().unlock();
+        flushChunkRebuilds(renderer);
 
     }
 
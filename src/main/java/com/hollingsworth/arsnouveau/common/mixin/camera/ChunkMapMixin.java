@@ -1,6 +1,8 @@
 package com.hollingsworth.arsnouveau.common.mixin.camera;
 
 
+import com.hollingsworth.arsnouveau.common.camera.ANICameraChunkTracker;
+import com.hollingsworth.arsnouveau.common.camera.CameraChunkStreamer;
 import com.hollingsworth.arsnouveau.common.entity.ScryerCamera;
 import com.hollingsworth.arsnouveau.common.util.CameraUtil;
 import it.unimi.dsi.fastutil.objects.ObjectIterator;
@@ -10,6 +12,7 @@ import net.minecraft.server.level.ChunkHolder;
 import net.minecraft.server.level.ChunkMap;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.LevelChunk;
 import org.apache.commons.lang3.mutable.MutableObject;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -24,7 +27,7 @@ import java.util.List;
         value = {ChunkMap.class},
         priority = 1100
 )
-public abstract class ChunkMapMixin {
+public abstract class ChunkMapMixin implements ANICameraChunkTracker {
     @Shadow
     int viewDistance;
 
@@ -37,6 +40,9 @@ public abstract class ChunkMapMixin {
     @Shadow
     public abstract List<ServerPlayer> getPlayers(ChunkPos var1, boolean var2);
 
+    @Shadow
+    protected abstract ChunkHolder getVisibleChunkIfPresent(long var1);
+
     @Inject(
             method = {"setViewDistance"},
             at = {@At(
@@ -70,17 +76,23 @@ public abstract class ChunkMapMixin {
     )
     private void trackCameraLoadedChunks(ServerPlayer player, CallbackInfo callback) {
         if (CameraUtil.isPlayerMountedOnCamera(player)) {
-            SectionPos pos = SectionPos.of(player.getCamera());
-            ScryerCamera camera = (ScryerCamera)player.getCamera();
+            CameraChunkStreamer.get(player).onMove(player, (ScryerCamera) player.getCamera(), this.viewDistance);
+        }
+    }
 
-            for(int i = pos.x() - this.viewDistance; i <= pos.x() + this.viewDistance; ++i) {
-                for(int j = pos.z() - this.viewDistance; j <= pos.z() + this.viewDistance; ++j) {
-                    this.updateChunkTracking(player, new ChunkPos(i, j), new MutableObject(), camera.hasLoadedChunks(), true);
-                }
-            }
+    @Override
+    public LevelChunk an_getTickingChunk(long chunkPos) {
+        ChunkHolder holder = this.getVisibleChunkIfPresent(chunkPos);
+        return holder == null ? null : holder.getTickingChunk();
+    }
 
-            camera.setHasLoadedChunks(this.viewDistance);
-        }
+    @Override
+    public void an_updateCameraChunk(ServerPlayer player, ChunkPos chunkPos, boolean wasLoaded, boolean load) {
+        this.updateChunkTracking(player, chunkPos, new MutableObject<>(), wasLoaded, load);
+    }
 
+    @Override
+    public int an_getViewDistance() {
+        return this.viewDistance;
     }
 }
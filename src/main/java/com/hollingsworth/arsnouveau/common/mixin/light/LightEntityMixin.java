@@ -13,6 +13,7 @@ import net.minecraft.core.Direction;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
@@ -74,6 +75,12 @@ public abstract class LightEntityMixin implements LambDynamicLight {
     private double lambdynlights$prevZ;
     @Unique
     private LongOpenHashSet lambdynlights$trackedLitChunkPos = new LongOpenHashSet();
+    @Unique
+    private int lambdynlights$lastSignature;
+    @Unique
+    private long lambdynlights$lastEvaluated = Long.MIN_VALUE / 2;
+    @Unique
+    private static final int LIGHT_REFRESH_TICKS = 20;
 
     @Inject(method = "tick", at = @At("TAIL"))
     public void onTick(CallbackInfo ci) {
@@ -138,12 +145,37 @@ public abstract class LightEntityMixin implements LambDynamicLight {
 
     @Override
     public void dynamicLightTick() {
+        Entity entity = (Entity) (Object) this;
+        // Entities with registered light functions can change light from any state, so only skip the ones we can fingerprint.
+        if (entity instanceof Player || !LightManager.getLightRegistry().containsKey(this.getType())) {
+            int signature = this.lambdynlights$getLightSignature(entity);
+            long gameTime = this.level.getGameTime();
+            if (signature == this.lambdynlights$lastSignature && gameTime - this.lambdynlights$lastEvaluated < LIGHT_REFRESH_TICKS)
+                return;
+            this.lambdynlights$lastSignature = signature;
+            this.lambdynlights$lastEvaluated = gameTime;
+        }
         lambdynlights$luminance = 0;
-        int luminance = DynamLightUtil.lightForEntity((Entity) (Object) this);
+        int luminance = DynamLightUtil.lightForEntity(entity);
         if (luminance > this.lambdynlights$luminance)
             this.lambdynlights$luminance = luminance;
     }
 
+    /**
+     * Hash of everything a player or config-only entity's light depends on.
+     */
+    @Unique
+    private int lambdynlights$getLightSignature(Entity entity) {
+        int signature = entity.isOnFire() ? 1 : 0;
+        if (entity instanceof Player player) {
+            signature = 31 * signature + System.identityHashCode(player.getMainHandItem().getItem());
+            signature = 31 * signature + System.identityHashCode(player.getOffhandItem().getItem());
+            signature = 31 * signature + player.getInventory().getTimesChanged();
+            signature = 31 * signature + (LightManager.jarHoldingEntityList.contains(player.getId()) ? 1 : 0);
+        }
+        return signature;
+    }
+
     @Override
     public int getLuminance() {
         return this.lambdynlights$luminance;
@@ -0,0 +1,24 @@
+package com.hollingsworth.arsnouveau.common.mixin.scry;
+
+import com.hollingsworth.arsnouveau.client.ScryScanner;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.block.state.BlockState;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Every block change on the client passes through here, so scrying results for the changed section can be dropped
+ * right away instead of waiting for them to expire.
+ */
+@Mixin(ClientLevel.class)
+public class ClientLevelMixin {
+
+    @Inject(method = "sendBlockUpdated", at = @At("HEAD"))
+    private void onBlockUpdated(BlockPos pos, BlockState oldState, BlockState newState, int flags, CallbackInfo ci) {
+        if(oldState != newState)
+            ScryScanner.onBlockChanged(pos);
+    }
+}
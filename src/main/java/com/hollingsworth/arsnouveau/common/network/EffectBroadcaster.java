@@ -0,0 +1,98 @@
+package com.hollingsworth.arsnouveau.common.network;
+
+import com.hollingsworth.arsnouveau.ArsNouveau;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.server.ServerStoppingEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.network.NetworkDirection;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the particle effects sent with {@link Networking#sendToNearby} until the end of the server tick, then sends
+ * each chunk's effects as one {@link PacketANEffectBundle}. The bundle is encoded once and the same packet goes to every
+ * player in range of all of its effects; players at the edge of the range get their own smaller bundle.
+ */
+@Mod.EventBusSubscriber(modid = ArsNouveau.MODID)
+public class EffectBroadcaster {
+    private static final Map<ServerLevel, Long2ObjectMap<List<Queued>>> QUEUED = new HashMap<>();
+
+    public static void queue(ServerLevel level, BlockPos pos, PacketANEffect effect){
+        QUEUED.computeIfAbsent(level, k -> new Long2ObjectLinkedOpenHashMap<>())
+                .computeIfAbsent(ChunkPos.asLong(pos), k -> new ArrayList<>())
+                .add(new Queued(pos.immutable(), effect));
+    }
+
+    @SubscribeEvent
+    public static void serverTick(TickEvent.ServerTickEvent e){
+        if(e.phase != TickEvent.Phase.END || QUEUED.isEmpty())
+            return;
+        for(Map.Entry<ServerLevel, Long2ObjectMap<List<Queued>>> level : QUEUED.entrySet()){
+            for(Long2ObjectMap.Entry<List<Queued>> chunk : level.getValue().long2ObjectEntrySet()){
+                flush(level.getKey(), new ChunkPos(chunk.getLongKey()), chunk.getValue());
+            }
+        }
+        QUEUED.clear();
+    }
+
+    private static void flush(ServerLevel level, ChunkPos chunk, List<Queued> queued){
+        List<ServerPlayer> players = level.getChunkSource().chunkMap.getPlayers(chunk, false);
+        if(players.isEmpty())
+            return;
+        Packet<?> shared = null;
+        for(ServerPlayer player : players){
+            int inRange = 0;
+            for(Queued q : queued){
+                if(Networking.isNear(player, q.pos))
+                    inRange++;
+            }
+            if(inRange == 0)
+                continue;
+            if(inRange == queued.size()){
+                if(shared == null)
+                    shared = toPacket(chunk, queued);
+                player.connection.send(shared);
+            }else{
+                List<Queued> visible = new ArrayList<>(inRange);
+                for(Queued q : queued){
+                    if(Networking.isNear(player, q.pos))
+                        visible.add(q);
+                }
+                player.connection.send(toPacket(chunk, visible));
+            }
+        }
+    }
+
+    private static Packet<?> toPacket(ChunkPos chunk, List<Queued> queued){
+        List<PacketANEffect> effects = new ArrayList<>(queued.size());
+        for(Queued q : queued){
+            effects.add(q.effect);
+        }
+        return Networking.INSTANCE.toVanillaPacket(new PacketANEffectBundle(chunk.x, chunk.z, effects), NetworkDirection.PLAY_TO_CLIENT);
+    }
+
+    @SubscribeEvent
+    public static void worldUnload(WorldEvent.Unload e){
+        if(e.getWorld() instanceof ServerLevel level)
+            QUEUED.remove(level);
+    }
+
+    @SubscribeEvent
+    public static void serverStopping(ServerStoppingEvent e){
+        QUEUED.clear();
+    }
+
+    private record Queued(BlockPos pos, PacketANEffect effect){}
+}
@@ -2,6 +2,7 @@ package com.hollingsworth.arsnouveau.common.network;
 
 import com.hollingsworth.arsnouveau.ArsNouveau;
 import net.minecraft.core.BlockPos;
+import net.minecraft.network.protocol.Packet;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
@@ -20,11 +21,13 @@ import java.util.Optional;
 
 public class Networking {
     public static SimpleChannel INSTANCE;
+    // Bump whenever a packet is added or its wire format changes, mismatched sides are refused at login
+    public static final String PROTOCOL = "2.0";
 
     private static int ID = 0;
     public static int nextID(){return ID++;}
     public static void registerMessages(){
-        INSTANCE = NetworkRegistry.newSimpleChannel(new ResourceLocation(ArsNouveau.MODID, "network"), () -> "1.0", s->true, s->true);
+        INSTANCE = NetworkRegistry.newSimpleChannel(new ResourceLocation(ArsNouveau.MODID, "network"), () -> PROTOCOL, PROTOCOL::equals, PROTOCOL::equals);
 
         INSTANCE.registerMessage(nextID(),
                 PacketOpenSpellBook.class,
@@ -191,17 +194,44 @@ public class Networking {
                 PacketQuickCast::toBytes,
                 PacketQuickCast::new,
                 PacketQuickCast::handle);
+        INSTANCE.registerMessage(nextID(),
+                PacketANEffectBundle.class,
+                PacketANEffectBundle::encode,
+                PacketANEffectBundle::decode,
+                PacketANEffectBundle.Handler::handle);
+        INSTANCE.registerMessage(nextID(),
+                PacketSyncGlyphTable.class,
+                PacketSyncGlyphTable::toBytes,
+                PacketSyncGlyphTable::new,
+                PacketSyncGlyphTable::handle,
+                Optional.of(NetworkDirection.PLAY_TO_CLIENT));
     }
 
+    /**
+     * Sends to players within 64 blocks of the position. The message is encoded once and shared by every recipient,
+     * and particle effects are bundled per chunk by the {@link EffectBroadcaster} at the end of the tick.
+     */
     public static void sendToNearby(Level world, BlockPos pos, Object toSend){
-        if (world instanceof ServerLevel) {
-            ServerLevel ws = (ServerLevel) world;
-            ws.getChunkSource().chunkMap.getPlayers(new ChunkPos(pos), false).stream()
-                    .filter(p -> p.distanceToSqr(pos.getX(), pos.getY(), pos.getZ()) < 64 * 64)
-                    .forEach(p -> INSTANCE.send(PacketDistributor.PLAYER.with(() -> p), toSend));
+        if (world instanceof ServerLevel ws) {
+            if(toSend instanceof PacketANEffect effect){
+                EffectBroadcaster.queue(ws, pos, effect);
+                return;
+            }
+            Packet<?> packet = null;
+            for(ServerPlayer player : ws.getChunkSource().chunkMap.getPlayers(new ChunkPos(pos), false)){
+                if(!isNear(player, pos))
+                    continue;
+                if(packet == null)
+                    packet = INSTANCE.toVanillaPacket(toSend, NetworkDirection.PLAY_TO_CLIENT);
+                player.connection.send(packet);
+            }
         }
     }
 
+    static boolean isNear(ServerPlayer player, BlockPos pos){
+        return player.distanceToSqr(pos.getX(), pos.getY(), pos.getZ()) < 64 * 64;
+    }
+
     public static void sendToNearby(Level world, Entity e, Object toSend) {
         sendToNearby(world, e.blockPosition(), toSend);
     }
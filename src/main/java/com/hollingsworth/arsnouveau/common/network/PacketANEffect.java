@@ -6,6 +6,7 @@ import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.util.Mth;
 import net.minecraftforge.network.NetworkEvent;
 
 import java.util.function.Supplier;
@@ -82,6 +83,42 @@ public class PacketANEffect {
         }
     }
 
+    /**
+     * Compact form used by {@link PacketANEffectBundle}. Positions are sixteenths of a block, x and z relative to the
+     * bundle's chunk, and colors are sent as single bytes.
+     */
+    public static void encodeQuantized(PacketANEffect msg, FriendlyByteBuf buf, int originX, int originZ) {
+        buf.writeByte(msg.type.ordinal());
+        buf.writeShort(quantize(msg.x - originX));
+        buf.writeShort(quantize(msg.y));
+        buf.writeShort(quantize(msg.z - originZ));
+        buf.writeByte(msg.red);
+        buf.writeByte(msg.green);
+        buf.writeByte(msg.blue);
+        for (int i = 0; i < msg.type.argCount; i++) {
+            buf.writeVarInt(msg.args[i]);
+        }
+    }
+
+    public static PacketANEffect decodeQuantized(FriendlyByteBuf buf, int originX, int originZ) {
+        EffectType type = EffectType.values()[buf.readByte()];
+        double x = originX + buf.readShort() / 16.0;
+        double y = buf.readShort() / 16.0;
+        double z = originZ + buf.readShort() / 16.0;
+        int red = buf.readUnsignedByte();
+        int green = buf.readUnsignedByte();
+        int blue = buf.readUnsignedByte();
+        int[] args = new int[type.argCount];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = buf.readVarInt();
+        }
+        return new PacketANEffect(type, x, y, z, new ParticleColor.IntWrapper(red, green, blue), args);
+    }
+
+    private static int quantize(double value){
+        return Mth.clamp(Mth.floor(value * 16.0), Short.MIN_VALUE, Short.MAX_VALUE);
+    }
+
     public static class Handler {
         public static void handle(final PacketANEffect message, final Supplier<NetworkEvent.Context> ctx) {
             if (ctx.get().getDirection().getReceptionSide().isServer()) {
@@ -92,29 +129,32 @@ public class PacketANEffect {
                 // Use anon - lambda causes classloading issues
                 @Override
                 public void run() {
-                    Minecraft mc = Minecraft.getInstance();
-                    ClientLevel world = mc.level;
-                    switch (message.type){
-
-                        case BURST:{
-                            for(int i =0; i < 10; i++){
-                                double d0 = message.x +0.5; //+ world.rand.nextFloat();
-                                double d1 = message.y +1.2;//+ world.rand.nextFloat() ;
-                                double d2 = message.z +.5 ; //+ world.rand.nextFloat();
-                                world.addParticle(GlowParticleData.createData(new ParticleColor(message.red, message.green, message.blue)),d0, d1, d2,
-                                        (world.random.nextFloat() - 0.5)/3.0,
-                                        (world.random.nextFloat() - 0.5)/3.0,
-                                        (world.random.nextFloat() - 0.5)/3.0);
-                            }
-                            break;
-                        }
-                    }
-
+                    spawnEffect(message);
                 }
             });
             ctx.get().setPacketHandled(true);
 
         }
+
+        public static void spawnEffect(PacketANEffect message){
+            Minecraft mc = Minecraft.getInstance();
+            ClientLevel world = mc.level;
+            switch (message.type){
+
+                case BURST:{
+                    for(int i =0; i < 10; i++){
+                        double d0 = message.x +0.5; //+ world.rand.nextFloat();
+                        double d1 = message.y +1.2;//+ world.rand.nextFloat() ;
+                        double d2 = message.z +.5 ; //+ world.rand.nextFloat();
+                        world.addParticle(GlowParticleData.createData(new ParticleColor(message.red, message.green, message.blue)),d0, d1, d2,
+                                (world.random.nextFloat() - 0.5)/3.0,
+                                (world.random.nextFloat() - 0.5)/3.0,
+                                (world.random.nextFloat() - 0.5)/3.0);
+                    }
+                    break;
+                }
+            }
+        }
     }
     public enum EffectType {
         TIMED_GLOW(4), //dest xyz num_particles
@@ -0,0 +1,67 @@
+package com.hollingsworth.arsnouveau.common.network;
+
+import net.minecraft.core.SectionPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Every {@link PacketANEffect} sent around one chunk in a tick, see {@link EffectBroadcaster}.
+ */
+public class PacketANEffectBundle {
+    final int chunkX;
+    final int chunkZ;
+    final List<PacketANEffect> effects;
+
+    public PacketANEffectBundle(int chunkX, int chunkZ, List<PacketANEffect> effects){
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+        this.effects = effects;
+    }
+
+    public static PacketANEffectBundle decode(FriendlyByteBuf buf) {
+        int chunkX = buf.readVarInt();
+        int chunkZ = buf.readVarInt();
+        int count = buf.readVarInt();
+        int originX = SectionPos.sectionToBlockCoord(chunkX);
+        int originZ = SectionPos.sectionToBlockCoord(chunkZ);
+        List<PacketANEffect> effects = new ArrayList<>(count);
+        for(int i = 0; i < count; i++){
+            effects.add(PacketANEffect.decodeQuantized(buf, originX, originZ));
+        }
+        return new PacketANEffectBundle(chunkX, chunkZ, effects);
+    }
+
+    public static void encode(PacketANEffectBundle msg, FriendlyByteBuf buf) {
+        buf.writeVarInt(msg.chunkX);
+        buf.writeVarInt(msg.chunkZ);
+        buf.writeVarInt(msg.effects.size());
+        int originX = SectionPos.sectionToBlockCoord(msg.chunkX);
+        int originZ = SectionPos.sectionToBlockCoord(msg.chunkZ);
+        for(PacketANEffect effect : msg.effects){
+            PacketANEffect.encodeQuantized(effect, buf, originX, originZ);
+        }
+    }
+
+    public static class Handler {
+        public static void handle(final PacketANEffectBundle message, final Supplier<NetworkEvent.Context> ctx) {
+            if (ctx.get().getDirection().getReceptionSide().isServer()) {
+                ctx.get().setPacketHandled(true);
+                return;
+            }
+            ctx.get().enqueueWork(new Runnable() {
+                // Use anon - lambda causes classloading issues
+                @Override
+                public void run() {
+                    for(PacketANEffect effect : message.effects){
+                        PacketANEffect.Handler.spawnEffect(effect);
+                    }
+                }
+            });
+            ctx.get().setPacketHandled(true);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.hollingsworth.arsnouveau.common.network;
 import com.hollingsworth.arsnouveau.ArsNouveau;
 import com.hollingsworth.arsnouveau.api.event.DelayedSpellEvent;
 import com.hollingsworth.arsnouveau.api.event.EventQueue;
+import com.hollingsworth.arsnouveau.api.spell.GlyphTable;
 import com.hollingsworth.arsnouveau.api.spell.Spell;
 import com.hollingsworth.arsnouveau.api.spell.SpellContext;
 import com.hollingsworth.arsnouveau.client.particle.ParticleColor;
@@ -33,7 +34,7 @@ public class PacketClientDelayEffect {
     //Decoder
     public PacketClientDelayEffect(FriendlyByteBuf buf){
         duration = buf.readInt();
-        spell = Spell.deserialize(buf.readUtf());
+        spell = GlyphTable.getServer().readSpell(buf);
         shooterID = buf.readInt();
         color = ParticleColor.IntWrapper.deserialize(buf.readUtf());
         hitEntityID = buf.readInt();
@@ -45,7 +46,7 @@ public class PacketClientDelayEffect {
     //Encoder
     public void toBytes(FriendlyByteBuf buf){
         buf.writeInt(duration);
-        buf.writeUtf(spell.serialize());
+        GlyphTable.getLocal().writeSpell(buf, spell);
         buf.writeInt(shooterID);
         buf.writeUtf(color.serialize());
         buf.writeInt(hitEntityID);
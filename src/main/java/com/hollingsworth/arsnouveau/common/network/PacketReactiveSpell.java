@@ -3,7 +3,7 @@ package com.hollingsworth.arsnouveau.common.network;
 import com.hollingsworth.arsnouveau.common.event.ReactiveEvents;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraftforge.network.NetworkEvent;
 
 import java.util.function.Supplier;
@@ -24,8 +24,7 @@ public class PacketReactiveSpell {
         ctx.get().enqueueWork(()->{
             ServerPlayer serverPlayerEntity = ctx.get().getSender();
             if(serverPlayerEntity!= null){
-                ItemStack stack = serverPlayerEntity.getMainHandItem();
-                ReactiveEvents.castSpell(ctx.get().getSender(), stack);
+                ReactiveEvents.castSpell(serverPlayerEntity, EquipmentSlot.MAINHAND);
             }
         });
         ctx.get().setPacketHandled(true);
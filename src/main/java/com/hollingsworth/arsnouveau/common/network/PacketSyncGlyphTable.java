@@ -0,0 +1,40 @@
+package com.hollingsworth.arsnouveau.common.network;
+
+import com.hollingsworth.arsnouveau.api.spell.GlyphTable;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.function.Supplier;
+
+/**
+ * Sends the server's {@link GlyphTable} to a player at login.
+ */
+public class PacketSyncGlyphTable {
+
+    GlyphTable table;
+
+    public PacketSyncGlyphTable(GlyphTable table){
+        this.table = table;
+    }
+
+    //Decoder
+    public PacketSyncGlyphTable(FriendlyByteBuf buf){
+        table = GlyphTable.readTable(buf);
+    }
+
+    //Encoder
+    public void toBytes(FriendlyByteBuf buf){
+        table.writeTable(buf);
+    }
+
+    public void handle(Supplier<NetworkEvent.Context> ctx){
+        // Only the server may replace the table, never a client talking to an integrated or LAN host
+        if(ctx.get().getDirection().getReceptionSide().isServer()){
+            ctx.get().setPacketHandled(true);
+            return;
+        }
+        // Set right away on the network thread, packets decoded after this one already read spells with it
+        GlyphTable.setServer(table);
+        ctx.get().setPacketHandled(true);
+    }
+}
@@ -1,6 +1,7 @@
 package com.hollingsworth.arsnouveau.common.network;
 
 import com.hollingsworth.arsnouveau.common.light.LightManager;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraftforge.network.NetworkEvent;
 
@@ -32,7 +33,7 @@ public class PacketSyncLitEntities {
     public void handle(Supplier<NetworkEvent.Context> ctx){
         ctx.get().enqueueWork(()->{
             if(LightManager.shouldUpdateDynamicLight()) {
-                LightManager.jarHoldingEntityList = entityIDs;
+                LightManager.jarHoldingEntityList = new IntOpenHashSet(entityIDs);
             }
         } );
         ctx.get().setPacketHandled(true);
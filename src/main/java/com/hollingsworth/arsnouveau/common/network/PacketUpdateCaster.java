@@ -1,5 +1,6 @@
 package com.hollingsworth.arsnouveau.common.network;
 
+import com.hollingsworth.arsnouveau.api.spell.GlyphTable;
 import com.hollingsworth.arsnouveau.api.spell.ISpellCaster;
 import com.hollingsworth.arsnouveau.api.spell.Spell;
 import com.hollingsworth.arsnouveau.api.util.CasterUtil;
@@ -14,13 +15,13 @@ import java.util.function.Supplier;
 
 public class PacketUpdateCaster {
 
-   String spellRecipe;
+   Spell spellRecipe;
    int cast_slot;
    String spellName;
 
     public PacketUpdateCaster(){}
 
-    public PacketUpdateCaster(String spellRecipe, int cast_slot, String spellName){
+    public PacketUpdateCaster(Spell spellRecipe, int cast_slot, String spellName){
         this.spellRecipe = spellRecipe;
         this.cast_slot = cast_slot;
         this.spellName = spellName;
@@ -28,14 +29,14 @@ public class PacketUpdateCaster {
 
     //Decoder
     public PacketUpdateCaster(FriendlyByteBuf buf){
-        spellRecipe = buf.readUtf(32767);
+        spellRecipe = GlyphTable.getLocal().readSpell(buf);
         cast_slot = buf.readInt();
         spellName = buf.readUtf(32767);
     }
 
     //Encoder
     public void toBytes(FriendlyByteBuf buf){
-        buf.writeUtf(spellRecipe);
+        GlyphTable.getServer().writeSpell(buf, spellRecipe);
         buf.writeInt(cast_slot);
         buf.writeUtf(spellName);
     }
@@ -50,7 +51,7 @@ public class PacketUpdateCaster {
                 if(spellRecipe != null){
                     ISpellCaster caster = CasterUtil.getCaster(stack);
                     caster.setCurrentSlot(cast_slot);
-                    caster.setSpell(Spell.deserialize(spellRecipe));
+                    caster.setSpell(spellRecipe);
                     caster.setSpellName(spellName);
                     Networking.INSTANCE.send(PacketDistributor.PLAYER.with(()->ctx.get().getSender()), new PacketUpdateBookGUI(stack));
                 }
@@ -42,11 +42,7 @@ public class BounceEffect extends MobEffect {
                     entity.hurtMarked = true;
                     entity.setOnGround(false);
                 }
-                if(isClient){
-                    EventQueue.getClientQueue().addEvent(new BounceTimedEvent(entity, entity.getDeltaMovement().y));
-                }else{
-                    EventQueue.getServerInstance().addEvent(new BounceTimedEvent(entity, entity.getDeltaMovement().y));
-                }
+                EventQueue.getLevelQueue(entity.level).addEvent(new BounceTimedEvent(entity, entity.getDeltaMovement().y));
                 event.setCanceled(true);
             }
         }
@@ -13,7 +13,6 @@ import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
 import java.util.List;
@@ -37,7 +36,7 @@ public class RitualBinding extends AbstractRitual {
         if(!world.isClientSide && world.getGameTime() % 20 == 0){
             incrementProgress();
             if(getProgress() >= 3){
-                List<Entity> entities = getWorld().getEntitiesOfClass(Entity.class, new AABB(getPos()).inflate(5));
+                List<Entity> entities = getNearbyEntities(Entity.class, 5);
 
                 for(Entity entity : entities){
                     for(AbstractFamiliarHolder familiarHolder : ArsNouveauAPI.getInstance().getFamiliarHolderMap().values()){
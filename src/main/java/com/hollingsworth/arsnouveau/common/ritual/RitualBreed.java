@@ -4,7 +4,6 @@ import com.hollingsworth.arsnouveau.api.ritual.AbstractRitual;
 import com.hollingsworth.arsnouveau.client.particle.ParticleUtil;
 import com.hollingsworth.arsnouveau.common.lib.RitualLib;
 import net.minecraft.world.entity.animal.Animal;
-import net.minecraft.world.phys.AABB;
 
 import java.util.List;
 
@@ -15,7 +14,7 @@ public class RitualBreed extends AbstractRitual {
             ParticleUtil.spawnRitualAreaEffect(getPos(), getWorld(), rand, getCenterColor(), 5);
         }else{
             if(getWorld().getGameTime() % 200 == 0){
-                List<Animal> animals = getWorld().getEntitiesOfClass(Animal.class, new AABB(getPos()).inflate(5));
+                List<Animal> animals = getNearbyEntities(Animal.class, 5);
                 if(animals.size() >= 20)
                     return;
                 boolean didWorkOnce = false;
@@ -18,7 +18,6 @@ import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
 import java.util.List;
@@ -51,9 +50,10 @@ public class RitualDisintegration extends AbstractRitual {
 
         if(!world.isClientSide && world.getGameTime() % 60 == 0){
             boolean didWorkOnce = false;
-            List<LivingEntity> entityList = world.getEntitiesOfClass(LivingEntity.class, new AABB(getPos()).inflate(5.0),
-                    (m) -> (m.getClassification(false).equals(MobCategory.MONSTER) || m.getType().is(EntityTags.DISINTEGRATION_WHITELIST)) && !(m instanceof Player));
+            List<LivingEntity> entityList = getNearbyEntities(LivingEntity.class, 5.0);
             for(LivingEntity m : entityList) {
+                if(!(m.getClassification(false).equals(MobCategory.MONSTER) || m.getType().is(EntityTags.DISINTEGRATION_WHITELIST)) || m instanceof Player)
+                    continue;
                 if(m.getType().is(EntityTags.DISINTEGRATION_BLACKLIST)) {
                     continue;
                 }
@@ -10,7 +10,6 @@ import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.monster.ZombieVillager;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.phys.AABB;
 import net.minecraftforge.common.util.FakePlayer;
 
 import java.util.List;
@@ -23,7 +22,7 @@ public class RitualHealing extends AbstractRitual {
             ParticleUtil.spawnRitualAreaEffect(getPos(), getWorld(), rand, getCenterColor(), 5);
         }else{
             if(getWorld().getGameTime() % 100 == 0){
-                List<LivingEntity> entities = getWorld().getEntitiesOfClass(LivingEntity.class, new AABB(getPos()).inflate(5));
+                List<LivingEntity> entities = getNearbyEntities(LivingEntity.class, 5);
                 Optional<LivingEntity> player = entities.stream().filter(e -> e instanceof Player).findFirst();
 
                 boolean didWorkOnce = false;
@@ -12,7 +12,6 @@ import net.minecraft.world.item.BoneMealItem;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.phys.AABB;
 
 import java.util.List;
 
@@ -30,7 +29,7 @@ public class RitualOvergrowth extends AbstractRitual {
                 return;
 
             if(isAnimalGrowth()){
-                List<AgeableMob> animals = getWorld().getEntitiesOfClass(AgeableMob.class, new AABB(getPos()).inflate(5));
+                List<AgeableMob> animals = getNearbyEntities(AgeableMob.class, 5);
                 boolean didWorkOnce = false;
                 for(AgeableMob a : animals){
                     if(a.isBaby()){
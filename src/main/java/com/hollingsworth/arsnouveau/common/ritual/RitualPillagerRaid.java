@@ -10,7 +10,6 @@ import net.minecraft.world.Difficulty;
 import net.minecraft.world.entity.raid.Raid;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
-import net.minecraft.world.phys.AABB;
 import net.minecraftforge.common.Tags;
 
 import java.util.List;
@@ -23,7 +22,7 @@ public class RitualPillagerRaid extends AbstractRitual {
             incrementProgress();
             if(getProgress() >= 18){
                 ServerLevel world = (ServerLevel) getWorld();
-                List<ServerPlayer> players =  world.getEntitiesOfClass(ServerPlayer.class, new AABB(getPos()).inflate(5.0));
+                List<ServerPlayer> players =  getNearbyEntities(ServerPlayer.class, 5.0);
                 if(players.size() > 0){
                     Raid raid = world.getRaids().createOrExtendRaid(players.get(0));
                     if(raid != null){
@@ -5,6 +5,8 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.item.ItemStack;
 
 public class ReactiveCaster extends SpellCaster {
+    public static final String TAG = "ars_nouveau_reactiveCaster";
+
     public ReactiveCaster(ItemStack stack) {
         super(stack);
     }
@@ -15,6 +17,6 @@ public class ReactiveCaster extends SpellCaster {
 
     @Override
     public String getTagID() {
-        return "ars_nouveau_reactiveCaster";
+        return TAG;
     }
 }
@@ -1,6 +1,7 @@
 package com.hollingsworth.arsnouveau.common.spell.effect;
 
 import com.hollingsworth.arsnouveau.api.spell.*;
+import com.hollingsworth.arsnouveau.api.util.BlockUpdateBatch;
 import com.hollingsworth.arsnouveau.api.util.BlockUtil;
 import com.hollingsworth.arsnouveau.api.util.SpellUtil;
 import com.hollingsworth.arsnouveau.common.datagen.BlockTagProvider;
@@ -59,7 +60,7 @@ public class EffectBreak extends AbstractEffect {
         int pierceBuff = spellStats.getBuffCount(AugmentPierce.INSTANCE);
         List<BlockPos> posList = SpellUtil.calcAOEBlocks(shooter, pos, rayTraceResult, aoeBuff, pierceBuff);
         ItemStack stack = spellStats.hasBuff(AugmentSensitive.INSTANCE) ? new ItemStack(Items.SHEARS) : getStack(shooter);
-
+        BlockUpdateBatch batch = new BlockUpdateBatch(world);
         for(BlockPos pos1 : posList) {
             state = world.getBlockState(pos1);
 
@@ -70,24 +71,25 @@ public class EffectBreak extends AbstractEffect {
                 stack.enchant(Enchantments.SILK_TOUCH, 1);
                 state.getBlock().playerDestroy(world, getPlayer(shooter, (ServerLevel) world), pos1, world.getBlockState(pos1), world.getBlockEntity(pos1), stack);
                 if(!state.is(BlockTagProvider.NO_BREAK_DROP))
-                    destroyBlockSafely(world, pos1, false, shooter);
+                    destroyBlockSafely(batch, world, pos1, false, shooter);
             }else if(spellStats.hasBuff(AugmentFortune.INSTANCE)) {
                 int bonus = spellStats.getBuffCount(AugmentFortune.INSTANCE);
                 stack.enchant(Enchantments.BLOCK_FORTUNE, bonus);
                 state.getBlock().popExperience((ServerLevel) world, pos1, state.getExpDrop(world, pos1, bonus, 0));
                 state.getBlock().playerDestroy(world, getPlayer(shooter, (ServerLevel) world), pos1, world.getBlockState(pos1), world.getBlockEntity(pos1), stack);
                 if(!state.is(BlockTagProvider.NO_BREAK_DROP))
-                    destroyBlockSafely(world, pos1, false, shooter);
+                    destroyBlockSafely(batch, world, pos1, false, shooter);
             } else {
                 state.getBlock().playerDestroy(world, getPlayer(shooter, (ServerLevel) world), pos1, world.getBlockState(pos1), world.getBlockEntity(pos1), stack);
                 if(!state.is(BlockTagProvider.NO_BREAK_DROP))
-                    destroyBlockSafely(world, pos1, false, shooter);
+                    destroyBlockSafely(batch, world, pos1, false, shooter);
                 state.getBlock().popExperience((ServerLevel) world, pos1, state.getExpDrop(world, pos1, 0, 0));
             }
             ShapersFocus.tryPropagateBlockSpell(new BlockHitResult(
                     new Vec3(pos1.getX(), pos1.getY(), pos1.getZ()), rayTraceResult.getDirection(),pos1, false
             ), world, shooter, spellContext, resolver);
         }
+        batch.apply();
     }
 
 
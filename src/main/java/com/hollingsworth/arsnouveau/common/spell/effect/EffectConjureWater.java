@@ -1,6 +1,7 @@
 package com.hollingsworth.arsnouveau.common.spell.effect;
 
 import com.hollingsworth.arsnouveau.api.spell.*;
+import com.hollingsworth.arsnouveau.api.util.BlockUpdateBatch;
 import com.hollingsworth.arsnouveau.api.util.BlockUtil;
 import com.hollingsworth.arsnouveau.api.util.SpellUtil;
 import com.hollingsworth.arsnouveau.common.items.curios.ShapersFocus;
@@ -47,6 +48,7 @@ public class EffectConjureWater extends AbstractEffect {
         List<BlockPos> posList = SpellUtil.calcAOEBlocks(shooter, rayTraceResult.getBlockPos(), rayTraceResult, aoeBuff, spellStats.getBuffCount(AugmentPierce.INSTANCE));
         if(world.dimensionType().ultraWarm())
             return;
+        BlockUpdateBatch batch = new BlockUpdateBatch(world);
         for(BlockPos pos1 : posList) {
             if(!BlockUtil.destroyRespectsClaim(getPlayer(shooter, (ServerLevel) world), world, pos1))
                 continue;
@@ -58,12 +60,13 @@ public class EffectConjureWater extends AbstractEffect {
                 ), world, shooter, spellContext, resolver);
             }else if(world.getBlockState(pos1.relative(rayTraceResult.getDirection())).canBeReplaced(Fluids.WATER)){
                 pos1 = pos1.relative(rayTraceResult.getDirection());
-                world.setBlockAndUpdate(pos1, Blocks.WATER.defaultBlockState());
+                batch.setBlock(pos1, Blocks.WATER.defaultBlockState());
                 ShapersFocus.tryPropagateBlockSpell(new BlockHitResult(
                         new Vec3(pos1.getX(), pos1.getY(), pos1.getZ()), rayTraceResult.getDirection(),pos1, false
                 ), world, shooter, spellContext, resolver);
             }
         }
+        batch.apply();
     }
 
     @Override
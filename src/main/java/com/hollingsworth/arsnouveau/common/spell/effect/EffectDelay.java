@@ -37,8 +37,9 @@ public class EffectDelay extends AbstractEffect {
         int duration = GENERIC_INT.get() + EXTEND_TIME.get() * spellStats.getBuffCount(AugmentExtendTime.INSTANCE) * 20;
         int decreasedTime =(int) (20.0 * ((double) EXTEND_TIME.get() - (double)EXTEND_TIME.get()/2.0));
         duration -= decreasedTime;
-        EventQueue.getServerInstance().addEvent(
-                new DelayedSpellEvent(duration , newSpell, rayTraceResult, world, shooter, newContext));
+        // The server side only needs the final tick, so wait in the timer wheel instead of ticking down
+        EventQueue.getLevelQueue(world).scheduleEvent(
+                new DelayedSpellEvent(Math.min(duration, 1), newSpell, rayTraceResult, world, shooter, newContext), duration - 1);
         Networking.sendToNearby(world, new BlockPos(safelyGetHitPos(rayTraceResult)),
                 new PacketClientDelayEffect(duration, shooter, newSpell, newContext, blockResult, hitEntity));
     }
@@ -4,8 +4,10 @@ import com.hollingsworth.arsnouveau.common.items.curios.ShapersFocus;
 import com.hollingsworth.arsnouveau.common.lib.GlyphLib;
 import com.hollingsworth.arsnouveau.api.ANFakePlayer;
 import com.hollingsworth.arsnouveau.api.spell.*;
+import com.hollingsworth.arsnouveau.api.util.BlockUpdateBatch;
 import com.hollingsworth.arsnouveau.api.util.BlockUtil;
 import com.hollingsworth.arsnouveau.api.util.LootUtil;
+import com.hollingsworth.arsnouveau.api.util.PlacementInventory;
 import com.hollingsworth.arsnouveau.api.util.SpellUtil;
 import com.hollingsworth.arsnouveau.common.spell.augment.AugmentAOE;
 import com.hollingsworth.arsnouveau.common.spell.augment.AugmentAmplify;
@@ -30,13 +32,12 @@ import net.minecraft.world.level.material.Material;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.EntityHitResult;
 import net.minecraft.world.phys.Vec3;
-import net.minecraftforge.items.IItemHandler;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import static com.hollingsworth.arsnouveau.api.util.BlockUtil.destroyBlockSafelyWithoutSound;
 
@@ -62,17 +63,20 @@ public class EffectExchange extends AbstractEffect {
         List<BlockPos> posList = SpellUtil.calcAOEBlocks(shooter, result.getBlockPos(), result,  spellStats.getAoeMultiplier(),  spellStats.getBuffCount(AugmentPierce.INSTANCE));
         BlockState origState = world.getBlockState(result.getBlockPos());
         Player playerEntity = getPlayer(shooter, (ServerLevel) world);
-        List<ItemStack> list = playerEntity.inventory.items;
-        List<IItemHandler> handlers = new ArrayList<>();
         ANFakePlayer fakePlayer = ANFakePlayer.getPlayer((ServerLevel) world);
-        if(spellContext.castingTile instanceof IPlaceBlockResponder && spellContext.castingTile instanceof IPickupResponder) {
-            handlers = ((IPlaceBlockResponder) spellContext.castingTile).getInventory();
+        PlacementInventory inventory = null;
+        if(isRealPlayer(shooter) && spellContext.castingTile == null) {
+            inventory = PlacementInventory.hotbar(playerEntity);
+        }else if(shooter instanceof IPlaceBlockResponder && shooter instanceof IPickupResponder) {
+            inventory = new PlacementInventory(((IPlaceBlockResponder) shooter).getInventory());
+        }else if(spellContext.castingTile instanceof IPlaceBlockResponder && spellContext.castingTile instanceof IPickupResponder) {
+            inventory = new PlacementInventory(((IPlaceBlockResponder) spellContext.castingTile).getInventory());
         }
-
-        if(shooter instanceof IPlaceBlockResponder && shooter instanceof IPickupResponder)
-            handlers = ((IPlaceBlockResponder) shooter).getInventory();
+        if(inventory == null)
+            return;
 
         Block firstBlock = null;
+        BlockUpdateBatch batch = new BlockUpdateBatch(world);
         for(BlockPos pos1 : posList) {
             BlockState state = world.getBlockState(pos1);
 
@@ -81,55 +85,35 @@ public class EffectExchange extends AbstractEffect {
                     || !BlockUtil.destroyRespectsClaim(getPlayer(shooter, (ServerLevel) world), world, pos1)){
                 continue;
             }
-            if(isRealPlayer(shooter) && spellContext.castingTile == null) {
-                firstBlock = swapFromInv(list, origState, world, pos1, result, shooter, 9, firstBlock, fakePlayer, spellContext, resolver);
-            } else if((spellContext.castingTile instanceof IPlaceBlockResponder && spellContext.castingTile instanceof IPickupResponder) || (shooter instanceof IPlaceBlockResponder && shooter instanceof IPickupResponder)){
-                boolean shouldBreak = false;
-                for(IItemHandler i : handlers){
-                    for(int slot = 0; slot < i.getSlots(); slot++){
-                        ItemStack stack = i.getStackInSlot(slot);
-                        if(stack.getItem() instanceof BlockItem item){
-                            if(item.getBlock() == origState.getBlock())
-                                continue;
-                            if(firstBlock == null){
-                                firstBlock = item.getBlock();
-                            }else if(item.getBlock() != firstBlock)
-                                continue;
-                            ItemStack extracted = i.extractItem(slot, 1, false);
-                            if(attemptPlace(extracted, world, pos1, result, shooter, fakePlayer, spellContext, resolver)) {
-                                shouldBreak = true;
-                                break;
-                            }else{
-                                i.insertItem(slot, extracted, false);
-                            }
-                        }
-                    }
-                    if(shouldBreak)
-                        break;
-                }
-
-            }
+            firstBlock = swapFromInv(batch, inventory, origState, world, pos1, result, shooter, firstBlock, fakePlayer, spellContext, resolver);
         }
+        batch.apply();
     }
 
-    public Block swapFromInv(List<ItemStack> inventory, BlockState origState, Level world, BlockPos pos1, BlockHitResult result, LivingEntity shooter, int slots, Block firstBlock, Player fakePlayer, SpellContext context, SpellResolver resolver) {
-        for(int i = 0; i < slots; i++){
-            ItemStack stack = inventory.get(i);
-            if(stack.getItem() instanceof BlockItem item){
-                if(item.getBlock() == origState.getBlock())
-                    continue;
-                if(firstBlock == null){
-                    firstBlock = item.getBlock();
-                }else if(item.getBlock() != firstBlock)
-                    continue;
-                if(attemptPlace(stack, world, new BlockPos(pos1), result, shooter, fakePlayer, context, resolver))
-                    break;
-            }
+    /**
+     * Swaps in the first block item that is not the original block, then keeps using that same block for the rest of the cast.
+     */
+    public Block swapFromInv(BlockUpdateBatch batch, PlacementInventory inventory, BlockState origState, Level world, BlockPos pos1, BlockHitResult result, LivingEntity shooter, @Nullable Block firstBlock, Player fakePlayer, SpellContext context, SpellResolver resolver) {
+        if(firstBlock == null){
+            PlacementInventory.Slot first = inventory.next(item -> item.getBlock() != origState.getBlock(), null);
+            if(first == null)
+                return null;
+            firstBlock = first.item.getBlock();
+        }
+        Block placing = firstBlock;
+        Predicate<BlockItem> matches = item -> item.getBlock() == placing;
+        for(PlacementInventory.Slot slot = inventory.next(matches, null); slot != null; slot = inventory.next(matches, slot)){
+            ItemStack extracted = inventory.extract(slot);
+            if(extracted.isEmpty())
+                continue;
+            if(attemptPlace(batch, extracted, world, pos1, result, shooter, fakePlayer, context, resolver))
+                break;
+            inventory.restore(slot, extracted);
         }
         return firstBlock;
     }
 
-    public boolean attemptPlace(ItemStack stack, Level world, BlockPos pos1, BlockHitResult result, LivingEntity shooter, Player fakePlayer, SpellContext spellContext, SpellResolver resolver){
+    public boolean attemptPlace(BlockUpdateBatch batch, ItemStack stack, Level world, BlockPos pos1, BlockHitResult result, LivingEntity shooter, Player fakePlayer, SpellContext spellContext, SpellResolver resolver){
         BlockItem item = (BlockItem)stack.getItem();
         ItemStack tool = LootUtil.getDefaultFakeTool();
         tool.enchant(Enchantments.SILK_TOUCH, 1);
@@ -137,9 +121,9 @@ public class EffectExchange extends AbstractEffect {
         BlockPlaceContext context = BlockPlaceContext.at(new BlockPlaceContext(new UseOnContext(fakePlayer, InteractionHand.MAIN_HAND, result)), pos1.relative(result.getDirection().getOpposite()), result.getDirection());
         BlockState placeState = item.getBlock().getStateForPlacement(context);
         Block.dropResources(world.getBlockState(pos1), world, pos1, world.getBlockEntity(pos1), shooter,tool);
-        destroyBlockSafelyWithoutSound(world, pos1, false, shooter);
+        destroyBlockSafelyWithoutSound(batch, world, pos1, false, shooter);
         if(placeState != null){
-            world.setBlock(pos1, placeState, 3);
+            batch.setBlock(pos1, placeState);
             item.getBlock().setPlacedBy(world, pos1, placeState, shooter, stack);
             BlockItem.updateCustomBlockEntityTag(world,
                     shooter instanceof Player player ? player :
@@ -2,6 +2,7 @@ package com.hollingsworth.arsnouveau.common.spell.effect;
 
 import com.hollingsworth.arsnouveau.common.lib.GlyphLib;
 import com.hollingsworth.arsnouveau.api.spell.*;
+import com.hollingsworth.arsnouveau.api.util.BlockUpdateBatch;
 import com.hollingsworth.arsnouveau.api.util.LootUtil;
 import com.hollingsworth.arsnouveau.api.util.SpellUtil;
 import com.hollingsworth.arsnouveau.common.spell.augment.AugmentAOE;
@@ -63,6 +64,7 @@ public class EffectHarvest extends AbstractEffect {
 
     @Override
     public void onResolveBlock(BlockHitResult ray, Level world, @Nullable LivingEntity shooter, SpellStats spellStats, SpellContext spellContext) {
+        BlockUpdateBatch batch = new BlockUpdateBatch(world);
         for(BlockPos blockpos : SpellUtil.calcAOEBlocks(shooter, ray.getBlockPos(), ray, spellStats)){
             BlockState state = world.getBlockState(blockpos);
 
@@ -72,7 +74,7 @@ public class EffectHarvest extends AbstractEffect {
             }
             if(state.getBlock() instanceof NetherWartBlock){
                 this.harvestNetherwart(blockpos, state, world, shooter, spellStats, spellContext);
-                return;
+                break;
             }
 
             if(!(state.getBlock() instanceof CropBlock))
@@ -83,8 +85,9 @@ public class EffectHarvest extends AbstractEffect {
                 continue;
 
             processAndSpawnDrops(blockpos, state, world, shooter, spellStats, spellContext);
-            world.setBlockAndUpdate(blockpos,cropsBlock.getStateForAge(1));
+            batch.setBlock(blockpos,cropsBlock.getStateForAge(1));
         }
+        batch.apply();
     }
 
     @Override
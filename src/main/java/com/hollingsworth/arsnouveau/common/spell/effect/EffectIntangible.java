@@ -2,6 +2,7 @@ package com.hollingsworth.arsnouveau.common.spell.effect;
 
 import com.hollingsworth.arsnouveau.common.lib.GlyphLib;
 import com.hollingsworth.arsnouveau.api.spell.*;
+import com.hollingsworth.arsnouveau.api.util.BlockUpdateBatch;
 import com.hollingsworth.arsnouveau.api.util.BlockUtil;
 import com.hollingsworth.arsnouveau.api.util.SpellUtil;
 import com.hollingsworth.arsnouveau.common.block.tile.IntangibleAirTile;
@@ -36,6 +37,7 @@ public class EffectIntangible extends AbstractEffect {
         int duration = (int) (GENERIC_INT.get() + EXTEND_TIME.get() * spellStats.getDurationMultiplier());
 
         List<BlockPos> posList = SpellUtil.calcAOEBlocks(shooter, pos, rayTraceResult, spellStats);
+        BlockUpdateBatch batch = new BlockUpdateBatch(world);
         for(BlockPos pos1 : posList) {
             if (world.getBlockEntity(pos1) != null || world.getBlockState(pos1).getMaterial() == Material.AIR
                     || world.getBlockState(pos1).getBlock() == Blocks.BEDROCK || !canBlockBeHarvested(spellStats, world, pos) || !BlockUtil.destroyRespectsClaim(getPlayer(shooter, (ServerLevel) world), world, pos1))
@@ -43,11 +45,12 @@ public class EffectIntangible extends AbstractEffect {
 
             BlockState state = world.getBlockState(pos1);
             int id = Block.getId(state);
-            world.setBlockAndUpdate(pos1, BlockRegistry.INTANGIBLE_AIR.defaultBlockState());
+            batch.setBlock(pos1, BlockRegistry.INTANGIBLE_AIR.defaultBlockState());
             IntangibleAirTile tile = ((IntangibleAirTile) world.getBlockEntity(pos1));
             tile.stateID = id;
             tile.maxLength = duration * 20;
         }
+        batch.apply();
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.hollingsworth.arsnouveau.common.spell.effect;
 
 import com.hollingsworth.arsnouveau.api.util.BlockUtil;
+import com.hollingsworth.arsnouveau.api.util.PlacementInventory;
 import com.hollingsworth.arsnouveau.common.items.curios.ShapersFocus;
 import com.hollingsworth.arsnouveau.common.lib.GlyphLib;
 import com.hollingsworth.arsnouveau.api.ANFakePlayer;
@@ -11,7 +12,6 @@ import com.hollingsworth.arsnouveau.common.spell.augment.AugmentPierce;
 import com.hollingsworth.arsnouveau.common.spell.method.MethodTouch;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
-import net.minecraft.core.NonNullList;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
@@ -49,6 +49,7 @@ public class EffectPlaceBlock extends AbstractEffect {
         List<BlockPos> posList = SpellUtil.calcAOEBlocks(shooter, rayTraceResult.getBlockPos(), rayTraceResult, spellStats);
         BlockHitResult result = rayTraceResult;
         FakePlayer fakePlayer = ANFakePlayer.getPlayer((ServerLevel) world);
+        PlacementInventory hotbar = shooter instanceof Player player ? PlacementInventory.hotbar(player) : null;
         for(BlockPos pos1 : posList) {
             BlockPos hitPos = result.isInside() ? pos1 : pos1.relative(result.getDirection());
             if(spellContext.castingTile instanceof IPlaceBlockResponder){
@@ -96,25 +97,26 @@ public class EffectPlaceBlock extends AbstractEffect {
                 }
                 attemptPlace(world, stack, item, result, fakePlayer);
             }else if(shooter instanceof Player playerEntity){
-                NonNullList<ItemStack> list =  playerEntity.inventory.items;
                 if(!world.getBlockState(hitPos).getMaterial().isReplaceable())
                     continue;
                 if(MinecraftForge.EVENT_BUS.post(new BlockEvent.EntityPlaceEvent(BlockSnapshot.create(world.dimension(), world, pos1), world.getBlockState(pos1), playerEntity))){
                     continue;
                 }
-                for(int i = 0; i < 9; i++){
-                    ItemStack stack = list.get(i);
-                    if(stack.getItem() instanceof BlockItem blockItem){
-                        BlockHitResult resolveResult = new BlockHitResult(new Vec3(hitPos.getX(), hitPos.getY(), hitPos.getZ()), result.getDirection(), hitPos, false);
-                        InteractionResult resultType = attemptPlace(world, stack, blockItem, resolveResult, fakePlayer);
-                        if(InteractionResult.FAIL != resultType) {
-                            BlockPos affectedPos = resolveResult.getBlockPos();
-                            ShapersFocus.tryPropagateBlockSpell(
-                                    new BlockHitResult(new Vec3(affectedPos.getX(), affectedPos.getY(), affectedPos.getZ()),
-                                            resolveResult.getDirection(), affectedPos, false),
-                                    world, shooter, spellContext, resolver);
-                            break;
-                        }
+                for(PlacementInventory.Slot slot = hotbar.next(item -> true, null); slot != null; slot = hotbar.next(item -> true, slot)){
+                    ItemStack stack = hotbar.extract(slot);
+                    if(stack.isEmpty())
+                        continue;
+                    BlockHitResult resolveResult = new BlockHitResult(new Vec3(hitPos.getX(), hitPos.getY(), hitPos.getZ()), result.getDirection(), hitPos, false);
+                    InteractionResult resultType = attemptPlace(world, stack, slot.item, resolveResult, fakePlayer);
+                    if(!stack.isEmpty())
+                        hotbar.restore(slot, stack);
+                    if(InteractionResult.FAIL != resultType) {
+                        BlockPos affectedPos = resolveResult.getBlockPos();
+                        ShapersFocus.tryPropagateBlockSpell(
+                                new BlockHitResult(new Vec3(affectedPos.getX(), affectedPos.getY(), affectedPos.getZ()),
+                                        resolveResult.getDirection(), affectedPos, false),
+                                world, shooter, spellContext, resolver);
+                        break;
                     }
                 }
             }
@@ -2,6 +2,7 @@ package com.hollingsworth.arsnouveau.common.spell.method;
 
 import com.hollingsworth.arsnouveau.api.spell.*;
 import com.hollingsworth.arsnouveau.common.entity.EntityProjectileSpell;
+import com.hollingsworth.arsnouveau.common.entity.ProjectileSwarm;
 import com.hollingsworth.arsnouveau.common.lib.GlyphLib;
 import com.hollingsworth.arsnouveau.common.spell.augment.*;
 import net.minecraft.commands.arguments.EntityAnchorArgument;
@@ -53,8 +54,11 @@ public class MethodProjectile extends AbstractCastMethod {
 
         float velocity = Math.max(0.1f, 1.0f + stats.getAccMultiplier() / 2);
 
+        ProjectileSwarm swarm = projectiles.size() > 1 ? new ProjectileSwarm() : null;
         for(EntityProjectileSpell proj : projectiles) {
             proj.shoot(shooter, shooter.xRot, shooter.yRot, 0.0F, velocity, 0.8f);
+            if(swarm != null)
+                swarm.add(proj);
             world.addFreshEntity(proj);
         }
     }
@@ -78,8 +82,11 @@ public class MethodProjectile extends AbstractCastMethod {
             spell.setPos(projPos.getX(), projPos.getY(), projPos.getZ());
             projectiles.add(spell);
         }
+        ProjectileSwarm swarm = projectiles.size() > 1 ? new ProjectileSwarm() : null;
         for(EntityProjectileSpell proj : projectiles) {
             proj.setDeltaMovement(new Vec3(0, -0.1, 0));
+            if(swarm != null)
+                swarm.add(proj);
             world.addFreshEntity(proj);
         }
     }
@@ -4,7 +4,7 @@ import com.hollingsworth.arsnouveau.api.spell.AbstractSpellPart;
 import com.hollingsworth.arsnouveau.api.spell.ISpellValidator;
 import com.hollingsworth.arsnouveau.api.spell.SpellValidationError;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -13,7 +13,7 @@ import java.util.List;
 public abstract class AbstractSpellValidator implements ISpellValidator {
     @Override
     public List<SpellValidationError> validate(List<AbstractSpellPart> spellRecipe) {
-        List<SpellValidationError> errors = new LinkedList<>();
+        List<SpellValidationError> errors = new ArrayList<>();
         validateImpl(spellRecipe, errors);
         return errors;
     }
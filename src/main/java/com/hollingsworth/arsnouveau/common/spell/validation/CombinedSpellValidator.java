@@ -4,6 +4,7 @@ import com.hollingsworth.arsnouveau.api.spell.AbstractSpellPart;
 import com.hollingsworth.arsnouveau.api.spell.ISpellValidator;
 import com.hollingsworth.arsnouveau.api.spell.SpellValidationError;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -30,4 +31,18 @@ public class CombinedSpellValidator implements ISpellValidator {
                 .flatMap(v -> v.validate(spellRecipe).stream())
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public Checkpoint checkpoint(List<AbstractSpellPart> prefix) {
+        List<Checkpoint> checkpoints = validators.stream()
+                .map(v -> v.checkpoint(prefix))
+                .collect(Collectors.toList());
+        return next -> {
+            List<SpellValidationError> errors = new ArrayList<>();
+            for (Checkpoint checkpoint : checkpoints) {
+                errors.addAll(checkpoint.validateNext(next));
+            }
+            return errors;
+        };
+    }
 }
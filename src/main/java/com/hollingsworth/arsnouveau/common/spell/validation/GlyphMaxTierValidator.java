@@ -29,6 +29,9 @@ public class GlyphMaxTierValidator extends ScanningSpellValidator<Unit> {
         }
     }
 
+    @Override
+    protected Unit copyContext(Unit context) { return context; }
+
     @Override
     protected void finish(Unit context, List<SpellValidationError> validationErrors) {}
 
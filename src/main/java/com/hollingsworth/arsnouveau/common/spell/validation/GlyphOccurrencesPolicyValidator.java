@@ -32,6 +32,11 @@ public class GlyphOccurrencesPolicyValidator extends ScanningSpellValidator<Map<
         }
     }
 
+    @Override
+    protected Map<String, Integer> copyContext(Map<String, Integer> partCounts) {
+        return new HashMap<>(partCounts);
+    }
+
     @Override
     protected void finish(Map<String, Integer> context, List<SpellValidationError> validationErrors) {}
 
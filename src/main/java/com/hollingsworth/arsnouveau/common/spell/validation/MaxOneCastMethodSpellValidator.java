@@ -25,6 +25,13 @@ public class MaxOneCastMethodSpellValidator extends ScanningSpellValidator<MaxOn
         }
     }
 
+    @Override
+    protected OneCastContext copyContext(OneCastContext context) {
+        OneCastContext copy = new OneCastContext();
+        copy.count = context.count;
+        return copy;
+    }
+
     @Override
     protected void finish(OneCastContext context, List<SpellValidationError> validationErrors) {}
 
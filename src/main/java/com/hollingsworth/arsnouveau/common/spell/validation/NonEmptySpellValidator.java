@@ -3,6 +3,7 @@ package com.hollingsworth.arsnouveau.common.spell.validation;
 import com.hollingsworth.arsnouveau.api.spell.AbstractSpellPart;
 import com.hollingsworth.arsnouveau.api.spell.SpellValidationError;
 
+import java.util.Collections;
 import java.util.List;
 
 /** Spell validator that asserts that the spell is non-empty. */
@@ -14,6 +15,12 @@ public class NonEmptySpellValidator extends AbstractSpellValidator {
         }
     }
 
+    @Override
+    public Checkpoint checkpoint(List<AbstractSpellPart> prefix) {
+        // Errors from this validator are never tied to a glyph position
+        return next -> Collections.emptyList();
+    }
+
     private static class NonEmptySpellValidationError extends BaseSpellValidationError {
         public NonEmptySpellValidationError() {
             super(-1, null, "non_empty_spell");
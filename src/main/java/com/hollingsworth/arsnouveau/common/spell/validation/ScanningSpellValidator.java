@@ -4,7 +4,8 @@ import com.hollingsworth.arsnouveau.api.spell.AbstractSpellPart;
 import com.hollingsworth.arsnouveau.api.spell.ISpellValidator;
 import com.hollingsworth.arsnouveau.api.spell.SpellValidationError;
 
-import java.util.LinkedList;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -40,18 +41,53 @@ public abstract class ScanningSpellValidator<T> implements ISpellValidator {
      */
     protected abstract void finish(T context, List<SpellValidationError> validationErrors);
 
+    /**
+     * Called to snapshot the context after a recipe prefix, so that {@link #checkpoint} can digest each candidate glyph
+     * from the same state. Contexts that are never changed may be returned as is. Returns <code>null</code> by default,
+     * in which case checkpoints fall back to validating the whole recipe per candidate.
+     */
+    @Nullable
+    protected T copyContext(T context) {
+        return null;
+    }
+
     @Override
     public List<SpellValidationError> validate(List<AbstractSpellPart> spellRecipe) {
         T t = initContext();
-        List<SpellValidationError> errors = new LinkedList<>();
+        List<SpellValidationError> errors = new ArrayList<>();
+        scan(t, spellRecipe, errors);
+        finish(t, errors);
+        return errors;
+    }
+
+    @Override
+    public Checkpoint checkpoint(List<AbstractSpellPart> prefix) {
+        T t = initContext();
+        if (copyContext(t) == null) {
+            return ISpellValidator.super.checkpoint(prefix);
+        }
+        List<SpellValidationError> errors = new ArrayList<>();
+        scan(t, prefix, errors);
+        int position = prefix.size();
+
+        return next -> {
+            T context = copyContext(t);
+            List<SpellValidationError> nextErrors = new ArrayList<>(errors);
+            if (next != null) {
+                digestSpellPart(context, position, next, nextErrors);
+            }
+            finish(context, nextErrors);
+            nextErrors.removeIf(e -> e.getPosition() < position);
+            return nextErrors;
+        };
+    }
 
+    private void scan(T context, List<AbstractSpellPart> spellRecipe, List<SpellValidationError> errors) {
         for(int pos = 0; pos < spellRecipe.size(); pos++) {
             AbstractSpellPart part = spellRecipe.get(pos);
             if (part != null) {
-               digestSpellPart(t, pos, part, errors);
+               digestSpellPart(context, pos, part, errors);
             }
         }
-        finish(t, errors);
-        return errors;
     }
 }
@@ -36,6 +36,26 @@ public abstract class SpellPhraseValidator extends AbstractSpellValidator {
         }
     }
 
+    @Override
+    public Checkpoint checkpoint(List<AbstractSpellPart> prefix) {
+        List<SpellPhrase> phrases = splitSpellIntoPhrases(prefix);
+        SpellPhrase last = phrases.get(phrases.size() - 1);
+        int position = prefix.size();
+
+        return next -> {
+            List<SpellValidationError> errors = new ArrayList<>();
+            if (next instanceof AbstractAugment) {
+                // An augment extends the last phrase
+                validatePhrase(last.withAugment((AbstractAugment) next, position), errors);
+            } else if (next != null) {
+                // Anything else starts a new phrase of its own
+                validatePhrase(new SpellPhrase(next, new ArrayList<>(), new LinkedHashMap<>(), position), errors);
+            }
+            errors.removeIf(e -> e.getPosition() < position);
+            return errors;
+        };
+    }
+
     /**
      * Creates a list of SpellValidationPhrases from a spell recipe.
      *
@@ -117,6 +137,19 @@ public abstract class SpellPhraseValidator extends AbstractSpellValidator {
             }
         }
 
+        /**
+         * Returns a copy of this phrase with one more augment at the given position.
+         */
+        private SpellPhrase withAugment(AbstractAugment augment, int position) {
+            List<AbstractAugment> augments = new ArrayList<>(this.augments);
+            augments.add(augment);
+            Map<String, List<SpellPartPosition<AbstractAugment>>> augmentPositionMap = new LinkedHashMap<>(this.augmentPositionMap);
+            List<SpellPartPosition<AbstractAugment>> positions = new LinkedList<>(augmentPositionMap.getOrDefault(augment.getId(), Collections.emptyList()));
+            positions.add(new SpellPartPosition<>(augment, position));
+            augmentPositionMap.put(augment.getId(), positions);
+            return new SpellPhrase(action, augments, augmentPositionMap, firstPosition);
+        }
+
         /**
          * Returns the action that begins this phrase, if present.
          */
@@ -69,4 +69,9 @@ public class StandardSpellValidator implements ISpellValidator {
     public List<SpellValidationError> validate(List<AbstractSpellPart> spellRecipe) {
         return combinedValidator.validate(spellRecipe);
     }
+
+    @Override
+    public Checkpoint checkpoint(List<AbstractSpellPart> prefix) {
+        return combinedValidator.checkpoint(prefix);
+    }
 }
@@ -4,6 +4,7 @@ import com.hollingsworth.arsnouveau.api.spell.AbstractCastMethod;
 import com.hollingsworth.arsnouveau.api.spell.AbstractSpellPart;
 import com.hollingsworth.arsnouveau.api.spell.SpellValidationError;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -17,6 +18,12 @@ public class StartingCastMethodSpellValidator extends AbstractSpellValidator {
         }
     }
 
+    @Override
+    public Checkpoint checkpoint(List<AbstractSpellPart> prefix) {
+        // Errors from this validator are never tied to a glyph position
+        return next -> Collections.emptyList();
+    }
+
     private static class StartingCastMethodSpellValidationError extends BaseSpellValidationError {
         public StartingCastMethodSpellValidationError() {
             super(-1, null, "starting_cast_method");
@@ -0,0 +1,73 @@
+package com.hollingsworth.arsnouveau.common.util;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import net.minecraft.world.effect.MobEffect;
+import net.minecraft.world.effect.MobEffectInstance;
+import net.minecraft.world.item.alchemy.Potion;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Order independent identity of a list of potion effects, used to check if jars and flasks hold the same mix.
+ * Effects are compared the way MobEffectInstance#equals does, by effect, amplifier, duration and ambient.
+ * Keys are interned, so equal mixes are normally the same instance and a comparison is a reference or hash check.
+ */
+public final class PotionMixKey {
+    private static final Interner<PotionMixKey> INTERNER = Interners.newWeakInterner();
+    private static final Map<Potion, PotionMixKey> POTION_KEYS = new ConcurrentHashMap<>();
+    private static final int FIELDS = 4;
+
+    public static final PotionMixKey EMPTY = INTERNER.intern(new PotionMixKey(new int[0]));
+
+    // Effect id, amplifier, duration and ambient of each effect, sorted by those fields in order
+    private final int[] entries;
+    private final int hash;
+
+    private PotionMixKey(int[] entries){
+        this.entries = entries;
+        this.hash = Arrays.hashCode(entries);
+    }
+
+    public static PotionMixKey of(List<MobEffectInstance> effects){
+        if(effects.isEmpty())
+            return EMPTY;
+        int[][] rows = new int[effects.size()][];
+        for(int i = 0; i < rows.length; i++){
+            MobEffectInstance effect = effects.get(i);
+            rows[i] = new int[]{MobEffect.getId(effect.getEffect()), effect.getAmplifier(), effect.getDuration(), effect.isAmbient() ? 1 : 0};
+        }
+        Arrays.sort(rows, Arrays::compare);
+        int[] entries = new int[rows.length * FIELDS];
+        for(int i = 0; i < rows.length; i++){
+            System.arraycopy(rows[i], 0, entries, i * FIELDS, FIELDS);
+        }
+        return INTERNER.intern(new PotionMixKey(entries));
+    }
+
+    /**
+     * The key for the potion's own effects, cached per potion.
+     */
+    public static PotionMixKey of(Potion potion){
+        return POTION_KEYS.computeIfAbsent(potion, p -> of(p.getEffects()));
+    }
+
+    public boolean isEmpty(){
+        return entries.length == 0;
+    }
+
+    @Override
+    public boolean equals(Object o){
+        if(this == o)
+            return true;
+        return o instanceof PotionMixKey other && hash == other.hash && Arrays.equals(entries, other.entries);
+    }
+
+    @Override
+    public int hashCode(){
+        return hash;
+    }
+}
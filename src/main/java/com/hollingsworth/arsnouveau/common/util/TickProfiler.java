@@ -0,0 +1,183 @@
+package com.hollingsworth.arsnouveau.common.util;
+
+import com.hollingsworth.arsnouveau.ArsNouveau;
+import com.hollingsworth.arsnouveau.api.spell.AbstractSpellPart;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import net.minecraft.ChatFormatting;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.TextComponent;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.server.ServerStoppingEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Samples server time spent in the mod's own subsystems for a fixed window, started by the ars-profile command.
+ * Call sites take a timestamp with {@link #start} and hand it back to {@link #record}. While no window is open start
+ * returns 0 and record returns immediately, so the cost outside a window is one volatile read.
+ */
+@Mod.EventBusSubscriber(modid = ArsNouveau.MODID)
+public class TickProfiler {
+    public enum Category {
+        BLOCK_ENTITY("Block entities"),
+        RITUAL("Rituals"),
+        GLYPH("Glyphs"),
+        PATHFINDING("Pathfinding jobs"),
+        EVENT_QUEUE("Queued events");
+
+        public final String label;
+
+        Category(String label){
+            this.label = label;
+        }
+    }
+
+    private static final Map<Category, Map<Object, Stats>> SAMPLES = new EnumMap<>(Category.class);
+    static {
+        for(Category category : Category.values()){
+            SAMPLES.put(category, new ConcurrentHashMap<>());
+        }
+    }
+
+    private static volatile boolean running;
+    private static int ticksLeft;
+    private static int ticksSampled;
+    private static int topCount;
+    private static @Nullable CommandSourceStack listener;
+
+    public static long start(){
+        return running ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Like {@link #start()} but ignores client levels, as an integrated server ticks both sides in one process.
+     */
+    public static long start(Level level){
+        return running && !level.isClientSide ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Attributes the time since start to the key, which is described with {@link #describe} only when reported.
+     * Safe to call from the pathfinding threads.
+     */
+    public static void record(Category category, Object key, @Nullable BlockPos pos, long start){
+        if(start == 0L || !running)
+            return;
+        long elapsed = System.nanoTime() - start;
+        SAMPLES.get(category).computeIfAbsent(key, k -> new Stats()).add(elapsed, pos);
+    }
+
+    public static boolean isRunning(){
+        return running;
+    }
+
+    public static void begin(CommandSourceStack source, int seconds, int top){
+        SAMPLES.values().forEach(Map::clear);
+        listener = source;
+        ticksLeft = seconds * 20;
+        ticksSampled = 0;
+        topCount = top;
+        running = true;
+    }
+
+    public static void finish(){
+        if(!running)
+            return;
+        running = false;
+        if(listener != null)
+            report(listener);
+        listener = null;
+        SAMPLES.values().forEach(Map::clear);
+    }
+
+    @SubscribeEvent
+    public static void serverTick(TickEvent.ServerTickEvent e){
+        if(e.phase != TickEvent.Phase.END || !running)
+            return;
+        ticksSampled++;
+        if(--ticksLeft <= 0)
+            finish();
+    }
+
+    @SubscribeEvent
+    public static void serverStopping(ServerStoppingEvent e){
+        running = false;
+        listener = null;
+        SAMPLES.values().forEach(Map::clear);
+    }
+
+    private static void report(CommandSourceStack source){
+        int ticks = Math.max(1, ticksSampled);
+        source.sendSuccess(new TextComponent("Ars Nouveau profile over " + ticks + " ticks").withStyle(ChatFormatting.GOLD), false);
+        for(Category category : Category.values()){
+            Map<Object, Stats> samples = SAMPLES.get(category);
+            if(samples.isEmpty())
+                continue;
+            long categoryNanos = samples.values().stream().mapToLong(s -> s.totalNanos).sum();
+            source.sendSuccess(new TextComponent(category.label + ": " + formatMillis(categoryNanos / ticks) + " ms/tick").withStyle(ChatFormatting.YELLOW), false);
+            List<Map.Entry<Object, Stats>> sorted = new ArrayList<>(samples.entrySet());
+            sorted.sort((a, b) -> Long.compare(b.getValue().totalNanos, a.getValue().totalNanos));
+            for(Map.Entry<Object, Stats> entry : sorted.subList(0, Math.min(topCount, sorted.size()))){
+                Stats stats = entry.getValue();
+                String line = "  " + describe(entry.getKey())
+                        + "  " + formatMillis(stats.totalNanos / ticks) + " ms/tick"
+                        + ", " + stats.calls + " calls"
+                        + ", avg " + stats.totalNanos / stats.calls / 1000 + " us"
+                        + ", max " + stats.maxNanos / 1000 + " us";
+                BlockPos hottest = stats.hottest();
+                if(hottest != null)
+                    line += ", hottest at " + hottest.toShortString();
+                source.sendSuccess(new TextComponent(line), false);
+            }
+        }
+    }
+
+    private static String formatMillis(long nanos){
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    public static String describe(Object key){
+        if(key instanceof BlockEntityType<?> type)
+            return String.valueOf(type.getRegistryName());
+        if(key instanceof AbstractSpellPart part)
+            return part.getId();
+        if(key instanceof Class<?> clazz)
+            return clazz.getSimpleName();
+        return key.toString();
+    }
+
+    private static class Stats {
+        long calls;
+        long totalNanos;
+        long maxNanos;
+        final Long2LongMap nanosByPos = new Long2LongOpenHashMap();
+
+        synchronized void add(long nanos, @Nullable BlockPos pos){
+            calls++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            if(pos != null)
+                nanosByPos.mergeLong(pos.asLong(), nanos, Long::sum);
+        }
+
+        synchronized @Nullable BlockPos hottest(){
+            long best = Long.MIN_VALUE;
+            BlockPos pos = null;
+            for(Long2LongMap.Entry entry : nanosByPos.long2LongEntrySet()){
+                if(entry.getLongValue() > best){
+                    best = entry.getLongValue();
+                    pos = BlockPos.of(entry.getLongKey());
+                }
+            }
+            return pos;
+        }
+    }
+}
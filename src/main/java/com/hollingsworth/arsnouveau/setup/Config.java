@@ -5,6 +5,7 @@ import com.hollingsworth.arsnouveau.api.ArsNouveauAPI;
 import com.hollingsworth.arsnouveau.api.RegistryHelper;
 import com.hollingsworth.arsnouveau.api.spell.AbstractSpellPart;
 import com.hollingsworth.arsnouveau.common.lib.LibEntityNames;
+import com.hollingsworth.arsnouveau.common.light.DynamLightUtil;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraftforge.common.ForgeConfigSpec;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
@@ -71,6 +72,11 @@ public class Config {
     public static ForgeConfigSpec.BooleanValue DYNAMIC_LIGHTS_ENABLED;
     public static ForgeConfigSpec.IntValue TOUCH_LIGHT_LUMINANCE;
     public static ForgeConfigSpec.IntValue TOUCH_LIGHT_DURATION;
+    public static ForgeConfigSpec.IntValue DYNAMIC_LIGHT_REBUILD_BUDGET;
+    public static ForgeConfigSpec.IntValue ANIMATION_FULL_DISTANCE;
+    public static ForgeConfigSpec.IntValue ANIMATION_FREEZE_DISTANCE;
+    public static ForgeConfigSpec.IntValue ANIMATION_REDUCED_RATE;
+    public static ForgeConfigSpec.IntValue FLOATING_ITEM_DISTANCE;
     public static ForgeConfigSpec.BooleanValue ENFORCE_GLYPH_LIMIT_ON_CAST;
 
     public static ForgeConfigSpec.IntValue NOVIVE_ARMOR_MANA_BOOST;
@@ -89,6 +95,7 @@ public class Config {
     public static ForgeConfigSpec.IntValue AMULET_OF_MANA_BOOST_MANA_BOOST;
 
     public static ForgeConfigSpec.BooleanValue SPAWN_TOMES;
+    public static ForgeConfigSpec.IntValue CAMERA_CHUNK_BYTES_PER_TICK;
     public static ForgeConfigSpec.IntValue TOOLTIP_X_OFFSET;
     public static ForgeConfigSpec.IntValue TOOLTIP_Y_OFFSET;
     public static ForgeConfigSpec.IntValue MANABAR_X_OFFSET;
@@ -96,8 +103,8 @@ public class Config {
     private static ForgeConfigSpec.ConfigValue<List<? extends String>> ENTITY_LIGHT_CONFIG;
     private static ForgeConfigSpec.ConfigValue<List<? extends String>> ITEM_LIGHT_CONFIG;
     // Convert to ResourceLocations so we dont need to create so many objects over strings
-    public static Map<ResourceLocation, Integer> ENTITY_LIGHT_MAP = new HashMap<>();
-    public static Map<ResourceLocation, Integer> ITEM_LIGHTMAP = new HashMap<>();
+    public static volatile Map<ResourceLocation, Integer> ENTITY_LIGHT_MAP = new HashMap<>();
+    public static volatile Map<ResourceLocation, Integer> ITEM_LIGHTMAP = new HashMap<>();
 
     public static boolean isSpellEnabled(String tag){
         AbstractSpellPart spellPart = ArsNouveauAPI.getInstance().getSpellpartMap().get(tag);
@@ -116,6 +123,7 @@ public class Config {
         DYNAMIC_LIGHTS_ENABLED = CLIENT_BUILDER.comment("If dynamic lights are enabled").define("lightsEnabled", false);
         TOUCH_LIGHT_LUMINANCE = CLIENT_BUILDER.comment("How bright the touch light is").defineInRange("touchLightLuminance", 8, 0, 15);
         TOUCH_LIGHT_DURATION = CLIENT_BUILDER.comment("How long the touch light lasts in ticks").defineInRange("touchLightDuration", 8, 0, 40);
+        DYNAMIC_LIGHT_REBUILD_BUDGET = CLIENT_BUILDER.comment("Max chunk sections dynamic lights may mark for rebuilding each frame. Sections nearest the camera go first.").defineInRange("lightRebuildBudget", 48, 1, 4096);
         ENTITY_LIGHT_CONFIG = CLIENT_BUILDER.comment("Light level an entity should emit when dynamic lights are on", "Example entry: minecraft:blaze=15")
                 .defineList("entity_lights",ConfigUtil.writeConfig(getDefaultEntityLight()), ConfigUtil::validateMap);
         ITEM_LIGHT_CONFIG = CLIENT_BUILDER.comment("Light level an item should emit when held when dynamic lights are on", "Example entry: minecraft:stick=15")
@@ -124,6 +132,14 @@ public class Config {
         TOOLTIP_Y_OFFSET = CLIENT_BUILDER.comment("Y offset for the tooltip").defineInRange("yTooltip", 0, Integer.MIN_VALUE, Integer.MAX_VALUE);
         MANABAR_X_OFFSET = CLIENT_BUILDER.comment("X offset for the Mana Bar").defineInRange("xManaBar", 0, Integer.MIN_VALUE, Integer.MAX_VALUE);
         MANABAR_Y_OFFSET = CLIENT_BUILDER.comment("Y offset for the Mana Bar").defineInRange("yManaBar", 0, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        CLIENT_BUILDER.pop();
+
+        CLIENT_BUILDER.comment("Block animations. Only plain idle loops shared by every block of a kind, such as relays and summoning crystals, are slowed or frozen").push("animations");
+        ANIMATION_FULL_DISTANCE = CLIENT_BUILDER.comment("Block animations within this many blocks of the camera update every frame").defineInRange("fullRateDistance", 24, 0, 512);
+        ANIMATION_FREEZE_DISTANCE = CLIENT_BUILDER.comment("Block animations further than this many blocks from the camera are frozen").defineInRange("freezeDistance", 64, 0, 512);
+        ANIMATION_REDUCED_RATE = CLIENT_BUILDER.comment("Block animations between the full rate and freeze distance update once every this many frames").defineInRange("reducedRate", 4, 1, 60);
+        FLOATING_ITEM_DISTANCE = CLIENT_BUILDER.comment("Items floating above pedestals and the imbuement chamber are not drawn beyond this many blocks from the camera, 0 to always draw them").defineInRange("floatingItemDistance", 0, 0, 512);
+        CLIENT_BUILDER.pop();
 
         SERVER_BUILDER.comment("General settings").push(CATEGORY_GENERAL);
         DIMENSION_BLACKLIST = SERVER_BUILDER.comment("Dimensions where hostile mobs will not spawn. Ex: [\"minecraft:overworld\", \"undergarden:undergarden\"]. . Run /forge dimensions for a list.").defineList("dimensionBlacklist", new ArrayList<>(),(o) -> true);
@@ -190,6 +206,11 @@ public class Config {
         CODEX_COST_PER_GLYPH = SERVER_BUILDER.comment("Cost per glyph in a codex").defineInRange("codexCost", 10, 0, Integer.MAX_VALUE);
         SPAWN_TOMES = SERVER_BUILDER.comment("Spawn Caster Tomes in Dungeon Loot?").define("spawnTomes", true);
 
+        SERVER_BUILDER.pop();
+        SERVER_BUILDER.pop();
+        SERVER_BUILDER.comment("Scryer cameras").push("camera");
+        CAMERA_CHUNK_BYTES_PER_TICK = SERVER_BUILDER.comment("Approximate bytes of chunk data sent per tick to a player viewing a Scryer camera. At least one chunk is always sent.")
+                .defineInRange("cameraChunkBytesPerTick", 262144, 1, Integer.MAX_VALUE);
         SERVER_BUILDER.pop();
         SERVER_BUILDER.push("lights");
         SERVER_CONFIG = SERVER_BUILDER.build();
@@ -216,16 +237,21 @@ public class Config {
     }
 
     public static void resetLightMaps(){
-        ENTITY_LIGHT_MAP = new HashMap<>();
-        ITEM_LIGHTMAP = new HashMap<>();
+        // Config reloads run off the render thread, so the maps are only published once they are filled
+        Map<ResourceLocation, Integer> entityLights = new HashMap<>();
+        Map<ResourceLocation, Integer> itemLights = new HashMap<>();
         // Copy values from ENTITY_LIGHT_CONFIG to ENTITY_LIGHT_MAP
         for(Map.Entry<String, Integer> entry : ConfigUtil.parseMapConfig(ENTITY_LIGHT_CONFIG).entrySet()){
-            ENTITY_LIGHT_MAP.put(new ResourceLocation(entry.getKey()), entry.getValue());
+            entityLights.put(new ResourceLocation(entry.getKey()), entry.getValue());
         }
         // Copy values from ITEM_LIGHT_CONFIG to ITEM_LIGHT_MAP
         for(Map.Entry<String, Integer> entry : ConfigUtil.parseMapConfig(ITEM_LIGHT_CONFIG).entrySet()){
-            ITEM_LIGHTMAP.put(new ResourceLocation(entry.getKey()), entry.getValue());
+            itemLights.put(new ResourceLocation(entry.getKey()), entry.getValue());
         }
+        ENTITY_LIGHT_MAP = entityLights;
+        ITEM_LIGHTMAP = itemLights;
+        // Cached lookups from the old maps are dropped only after the new ones are visible
+        DynamLightUtil.invalidateCaches();
     }
 
 